@@ -0,0 +1,98 @@
+package MazeGen;
+
+/*
+ * Braider
+ * Post-processing pass that turns a perfect maze into a braided one by knocking
+ * through a share of its dead ends, which introduces loops.
+ *
+ * Design:
+ * - All dead ends (cells with exactly one open side) are collected and shuffled, and
+ *   the first round(fraction * count) of them are opened up, so fraction 0 leaves the
+ *   maze untouched and fraction 1 leaves no dead end that can be opened.
+ * - A dead end is opened towards a neighbour that is itself a dead end when there is
+ *   one (removing two dead ends with one wall), otherwise towards a random walled
+ *   neighbour. Cells that stopped being dead ends earlier in the pass are skipped.
+ * - Draws come from maze.getRand().split(RANDOM_STREAM), so braiding is reproducible
+ *   from the maze seed and does not disturb the generator's own stream.
+ */
+public class Braider {
+
+    static final long RANDOM_STREAM = -2;
+
+    private final Maze maze;
+
+    public Braider(Maze maze) {
+        this.maze = maze;
+    }
+
+    /**
+     * Opens up the given fraction of the maze's dead ends.
+     *
+     * @param fraction Share of dead ends to remove, between 0 and 1.
+     * @return The number of walls removed.
+     */
+    public int braid(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("Fraction must be between 0 and 1: " + fraction);
+        }
+        MazeRandom rand = maze.getRand().split(RANDOM_STREAM);
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+
+        int[] deadEnds = new int[rows * cols];
+        int count = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (openSides(r, c) == 1) {
+                    deadEnds[count++] = r * cols + c;
+                }
+            }
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int swap = deadEnds[i];
+            deadEnds[i] = deadEnds[j];
+            deadEnds[j] = swap;
+        }
+
+        int target = (int) Math.round(fraction * count);
+        int removed = 0;
+        Direction[] candidates = new Direction[4];
+        for (int i = 0; i < target; i++) {
+            int row = deadEnds[i] / cols;
+            int col = deadEnds[i] % cols;
+            if (openSides(row, col) != 1) continue;
+
+            int walled = 0;
+            int deadEndNeighbours = 0;
+            for (Direction dir : Direction.values()) {
+                int newRow = row + dir.getRowOffset();
+                int newCol = col + dir.getColOffset();
+                if (!maze.isInMaze(newRow, newCol) || !maze.hasWall(row, col, dir)) continue;
+                if (openSides(newRow, newCol) == 1) {
+                    // Dead-end neighbours go first in the candidate list
+                    candidates[walled++] = candidates[deadEndNeighbours];
+                    candidates[deadEndNeighbours++] = dir;
+                } else {
+                    candidates[walled++] = dir;
+                }
+            }
+            if (walled == 0) continue;
+
+            int pool = deadEndNeighbours > 0 ? deadEndNeighbours : walled;
+            maze.removeWall(row, col, candidates[rand.nextInt(pool)]);
+            removed++;
+        }
+        return removed;
+    }
+
+    private int openSides(int row, int col) {
+        int open = 0;
+        for (Direction dir : Direction.values()) {
+            if (maze.isInMaze(row + dir.getRowOffset(), col + dir.getColOffset()) && !maze.hasWall(row, col, dir)) {
+                open++;
+            }
+        }
+        return open;
+    }
+}
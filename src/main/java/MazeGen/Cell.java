@@ -7,14 +7,25 @@ public class Cell {
 
     private final int row;
     private final int col;
-    public final EnumSet<Direction> walls;
+    private final EnumSet<Direction> walls;
     private boolean visited;
+    // The maze this cell is stored in, if any; wall edits are routed through it
+    private Maze maze;
 
     public Cell(int row, int col) {
+        this(row, col, EnumSet.allOf(Direction.class));
+    }
+
+    /*
+     * Used by storage-backed cell views (see PackedCell) that keep their walls
+     * outside the cell and therefore pass null here. Such views override every
+     * method that touches walls, so the field is only read through those methods.
+     */
+    protected Cell(int row, int col, EnumSet<Direction> walls) {
         this.row = row;
         this.col = col;
         this.visited = false;
-        this.walls = EnumSet.allOf(Direction.class);
+        this.walls = walls;
     }
 
     //Getters
@@ -40,8 +51,44 @@ public class Cell {
         return walls.contains(direction);
     }
 
+    /*
+     * On a cell stored in a Maze this is Maze.removeWall: the neighbour's side is
+     * opened too and wall-change listeners are notified. A standalone cell only
+     * updates its own wall set.
+     */
     public void removeWall(Direction direction) {
-        walls.remove(direction);
+        if (maze != null) {
+            maze.removeWall(row, col, direction);
+        } else {
+            walls.remove(direction);
+        }
+    }
+
+    /*
+     * Counterpart of removeWall(), routed through Maze.addWall when stored in a maze.
+     */
+    public void addWall(Direction direction) {
+        if (maze != null) {
+            maze.addWall(row, col, direction);
+        } else {
+            walls.add(direction);
+        }
+    }
+
+    /*
+     * Writes this cell's own wall set only. Used by Maze, which keeps both sides of a
+     * wall in step and sends the change events.
+     */
+    void setWall(Direction direction, boolean wall) {
+        if (wall) {
+            walls.add(direction);
+        } else {
+            walls.remove(direction);
+        }
+    }
+
+    void attach(Maze maze) {
+        this.maze = maze;
     }
 
 }
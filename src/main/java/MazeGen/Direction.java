@@ -2,6 +2,30 @@ package MazeGen;
 
 public enum Direction {
 
-    UP, DOWN, LEFT, RIGHT
-}
+    UP, DOWN, LEFT, RIGHT;
+
+    public int getRowOffset() {
+        return switch (this) {
+            case UP -> -1;
+            case DOWN -> 1;
+            default -> 0;
+        };
+    }
 
+    public int getColOffset() {
+        return switch (this) {
+            case LEFT -> -1;
+            case RIGHT -> 1;
+            default -> 0;
+        };
+    }
+
+    public Direction getOpposite() {
+        return switch (this) {
+            case UP -> DOWN;
+            case DOWN -> UP;
+            case LEFT -> RIGHT;
+            case RIGHT -> LEFT;
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package MazeGen;
+
+import java.util.Arrays;
+
+/*
+ * EllerGenerator
+ * Streams a perfect maze row by row using Eller's algorithm.
+ *
+ * Design guarantees:
+ * - The generated maze is fully connected and contains no cycles.
+ * - Only the current row is held in memory (a handful of int/boolean arrays of
+ *   length cols), so the number of rows is unbounded: a 100 x 10^8 maze can be
+ *   written straight to disk with constant heap.
+ *
+ * Determinism:
+ * - A seeded MazeRandom is used, so identical seeds, versions and dimensions
+ *   always stream identical rows.
+ *
+ * Implementation notes:
+ * - Every cell in the current row carries a set label; cells with the same label
+ *   are already connected through earlier rows. Labels are recycled through a free
+ *   list so they always stay below cols.
+ * - Each row: randomly join adjacent cells of different sets (merging labels with a
+ *   small union-find), then carve at least one downward passage per set. The last
+ *   row joins every remaining set.
+ * - Start and end cells are not chosen here. When streaming into a Maze, call
+ *   MazeGenerator.placeStartAndEndAtDeadEnd() afterwards.
+ */
+public class EllerGenerator {
+
+    private final MazeRandom rand;
+    private final int rows;
+    private final int cols;
+
+    public EllerGenerator(long seed, int rows, int cols) {
+        this(MazeRandom.create(seed, Maze.DEFAULT_RANDOM_VERSION), rows, cols);
+    }
+
+    public EllerGenerator(MazeRandom rand, int rows, int cols) {
+        this.rand = rand;
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    /**
+     * Generates the maze, handing each finished row to the sink in order.
+     *
+     * @param sink Receiver for the rows, e.g. MazeRowSink.toMaze or MazeRowSink.toAscii.
+     */
+    public void generate(MazeRowSink sink) {
+        int[] labels = new int[cols];
+        int[] setSize = new int[cols];
+        int[] parent = new int[cols];
+        int[] freeLabels = new int[cols];
+        int[] remaining = new int[cols];
+        boolean[] hasDown = new boolean[cols];
+        boolean[] rightWalls = new boolean[cols];
+        boolean[] downWalls = new boolean[cols];
+
+        Arrays.fill(labels, -1);
+        int freeCount = cols;
+        for (int i = 0; i < cols; i++) {
+            freeLabels[i] = cols - 1 - i;
+        }
+
+        for (int row = 0; row < rows; row++) {
+            boolean lastRow = row == rows - 1;
+
+            // Cells that were not reached from above start a new set
+            for (int c = 0; c < cols; c++) {
+                if (labels[c] < 0) {
+                    labels[c] = freeLabels[--freeCount];
+                    setSize[labels[c]] = 1;
+                }
+            }
+
+            // Horizontal joins, merging labels through a row-local union-find
+            Arrays.fill(rightWalls, true);
+            for (int c = 0; c < cols; c++) {
+                parent[labels[c]] = labels[c];
+            }
+            for (int c = 0; c < cols - 1; c++) {
+                int left = find(parent, labels[c]);
+                int right = find(parent, labels[c + 1]);
+                if (left != right && (lastRow || rand.nextBoolean())) {
+                    rightWalls[c] = false;
+                    parent[right] = left;
+                    setSize[left] += setSize[right];
+                    setSize[right] = 0;
+                }
+            }
+            for (int c = 0; c < cols; c++) {
+                labels[c] = find(parent, labels[c]);
+            }
+
+            // Vertical passages: at least one per set, except on the last row
+            Arrays.fill(downWalls, true);
+            if (!lastRow) {
+                for (int c = 0; c < cols; c++) {
+                    remaining[labels[c]] = setSize[labels[c]];
+                    hasDown[labels[c]] = false;
+                }
+
+                for (int c = 0; c < cols; c++) {
+                    int label = labels[c];
+                    boolean mustCarve = remaining[label] == 1 && !hasDown[label];
+                    remaining[label]--;
+
+                    if (mustCarve || rand.nextBoolean()) {
+                        downWalls[c] = false;
+                        hasDown[label] = true;
+                    }
+                }
+            }
+
+            sink.acceptRow(row, rightWalls, downWalls);
+
+            // Prepare the next row: only cells reached from above keep their set
+            for (int c = 0; c < cols; c++) {
+                setSize[labels[c]] = 0;
+            }
+            freeCount = 0;
+            for (int c = 0; c < cols; c++) {
+                if (downWalls[c]) {
+                    labels[c] = -1;
+                } else {
+                    setSize[labels[c]]++;
+                }
+            }
+            for (int label = cols - 1; label >= 0; label--) {
+                if (setSize[label] == 0) {
+                    freeLabels[freeCount++] = label;
+                }
+            }
+        }
+    }
+
+    private static int find(int[] parent, int label) {
+        while (parent[label] != label) {
+            parent[label] = parent[parent[label]];
+            label = parent[label];
+        }
+        return label;
+    }
+}
@@ -0,0 +1,118 @@
+package MazeGen;
+
+import java.util.Arrays;
+
+/*
+ * IterativeBacktracker
+ * Recursive-backtracker carving driven by an explicit stack instead of the call stack.
+ *
+ * Design guarantees:
+ * - Same guarantees as the recursive generator: every cell of the carved region is
+ *   reachable and the carved passages form a tree (a perfect maze).
+ * - Stack depth is limited only by heap, so very large grids (10^8 cells) no longer
+ *   hit StackOverflowError.
+ *
+ * Implementation notes:
+ * - Each stack frame is an int cell index plus one byte selecting one of the 24
+ *   orderings of the four directions. The ordering is drawn once, with a single
+ *   nextInt(24), when the cell is first visited, so no direction list is allocated
+ *   or shuffled per step.
+ * - Frames do not store a cursor: when a frame is resumed the directions are simply
+ *   rescanned in its order and already-visited neighbours are skipped, which yields
+ *   the same traversal a per-frame cursor would.
+ * - Visited cells are tracked in a bitset local to the carved region.
+ */
+class IterativeBacktracker {
+
+    private static final Direction[][] PERMUTATIONS = buildPermutations();
+    private static final int INITIAL_STACK = 1024;
+
+    private final Maze maze;
+    private final MazeRandom rand;
+
+    IterativeBacktracker(Maze maze, MazeRandom rand) {
+        this.maze = maze;
+        this.rand = rand;
+    }
+
+    /*
+     * Carves a perfect maze covering the whole grid, starting at the given cell.
+     */
+    void carve(int startRow, int startCol) {
+        carve(0, 0, maze.getRows(), maze.getCols(), startRow, startCol);
+    }
+
+    /*
+     * Carves a perfect maze inside the rectangle [top, top + height) x [left, left + width).
+     * Walls on the rectangle's outline are never removed.
+     */
+    void carve(int top, int left, int height, int width, int startRow, int startCol) {
+        long[] visited = new long[(int) (((long) height * width + 63) >>> 6)];
+        int[] cells = new int[Math.min(INITIAL_STACK, height * width)];
+        byte[] orders = new byte[cells.length];
+        int size = 0;
+
+        int startIndex = (startRow - top) * width + (startCol - left);
+        visited[startIndex >>> 6] |= 1L << startIndex;
+        cells[size] = startIndex;
+        orders[size] = (byte) rand.nextInt(PERMUTATIONS.length);
+        size++;
+
+        while (size > 0) {
+            int index = cells[size - 1];
+            Direction[] order = PERMUTATIONS[orders[size - 1]];
+            int row = top + index / width;
+            int col = left + index % width;
+            boolean advanced = false;
+
+            for (Direction direction : order) {
+                int newRow = row + direction.getRowOffset();
+                int newCol = col + direction.getColOffset();
+                if (newRow < top || newRow >= top + height || newCol < left || newCol >= left + width) {
+                    continue;
+                }
+
+                int next = (newRow - top) * width + (newCol - left);
+                if ((visited[next >>> 6] & (1L << next)) != 0) {
+                    continue;
+                }
+
+                maze.removeWall(row, col, direction);
+                visited[next >>> 6] |= 1L << next;
+
+                if (size == cells.length) {
+                    int capacity = (int) Math.min((long) cells.length * 2, (long) height * width);
+                    cells = Arrays.copyOf(cells, capacity);
+                    orders = Arrays.copyOf(orders, capacity);
+                }
+                cells[size] = next;
+                orders[size] = (byte) rand.nextInt(PERMUTATIONS.length);
+                size++;
+                advanced = true;
+                break;
+            }
+
+            if (!advanced) {
+                size--;
+            }
+        }
+    }
+
+    private static Direction[][] buildPermutations() {
+        Direction[] values = Direction.values();
+        Direction[][] permutations = new Direction[24][];
+        int count = 0;
+        for (int a = 0; a < 4; a++) {
+            for (int b = 0; b < 4; b++) {
+                for (int c = 0; c < 4; c++) {
+                    int d = 6 - a - b - c;
+                    if (a == b || a == c || b == c || d < 0 || d > 3 || d == a || d == b || d == c) {
+                        continue;
+                    }
+                    permutations[count++] = new Direction[]{values[a], values[b], values[c], values[d]};
+                }
+            }
+        }
+        return permutations;
+    }
+}
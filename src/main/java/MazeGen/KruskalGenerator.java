@@ -0,0 +1,194 @@
+package MazeGen;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/*
+ * KruskalGenerator
+ * Generates a perfect maze with randomized Kruskal's algorithm, using all cores of
+ * a ForkJoinPool.
+ *
+ * Design guarantees:
+ * - The carved passages form a spanning tree of the grid (a perfect maze).
+ * - Output depends only on the maze seed and dimensions, never on the pool's
+ *   parallelism: it is exactly the tree sequential Kruskal would build over the
+ *   same shuffled edge order.
+ *
+ * Implementation notes:
+ * - Shuffle: every interior edge gets a 31-bit key from SeedMixer; the keys, with
+ *   the edge position in the low 32 bits as tie-breaker, are sorted with
+ *   Arrays.parallelSort. This is a seeded shuffle whose result is thread-count
+ *   independent.
+ * - Union-find: parent links live in an AtomicIntegerArray and find() uses path
+ *   halving with compareAndSet, so concurrent lookups never block.
+ * - Merging uses deterministic reservations over a sliding window of the sorted
+ *   edges. In the reserve phase each edge finds both roots and, if they differ,
+ *   claims both with an atomic write-min of its sort position. In the commit phase
+ *   an edge that holds both claims links the larger root under the smaller one;
+ *   every other edge retries in the next round, and edges whose roots already match
+ *   are dropped. An edge only commits when no earlier pending edge touches either of
+ *   its components, so each decision sees the same components sequential Kruskal
+ *   would, which is what keeps the result identical.
+ * - Accepted edges are carved into the maze after each round on the calling thread.
+ */
+public class KruskalGenerator {
+
+    private static final int WINDOW = 1 << 16;
+    private static final int UNRESERVED = Integer.MAX_VALUE;
+
+    private final Maze maze;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    public KruskalGenerator(Maze maze, ForkJoinPool pool) {
+        this(maze, maze.getSeed(), pool);
+    }
+
+    KruskalGenerator(Maze maze, long seed, ForkJoinPool pool) {
+        this.maze = maze;
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    /**
+     * Carves a perfect maze over the whole grid. Start and end cells are not placed.
+     */
+    public void carve() {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int edgeCount = rows * (cols - 1) + (rows - 1) * cols;
+        if (edgeCount == 0) {
+            return;
+        }
+
+        long[] order = shuffledEdges(edgeCount);
+
+        AtomicIntegerArray parent = new AtomicIntegerArray(rows * cols);
+        AtomicIntegerArray reserved = new AtomicIntegerArray(rows * cols);
+        run(() -> IntStream.range(0, rows * cols).parallel().forEach(i -> {
+            parent.set(i, i);
+            reserved.set(i, UNRESERVED);
+        }));
+
+        int window = Math.min(WINDOW, edgeCount);
+        int[] active = new int[window];
+        int[] lowRoot = new int[window];
+        int[] highRoot = new int[window];
+        byte[] state = new byte[window]; // 0 = retry, 1 = dropped, 2 = accepted
+        int activeCount = 0;
+        int next = 0;
+
+        while (next < edgeCount || activeCount > 0) {
+            while (activeCount < window && next < edgeCount) {
+                active[activeCount++] = next++;
+            }
+            int count = activeCount;
+
+            // Reserve: claim both roots with the earliest sort position
+            run(() -> IntStream.range(0, count).parallel().forEach(i -> {
+                int position = active[i];
+                int edge = (int) order[position];
+                int a = find(parent, edge >>> 1);
+                int b = find(parent, neighbourOf(edge, cols));
+                if (a == b) {
+                    state[i] = 1;
+                    return;
+                }
+                lowRoot[i] = Math.min(a, b);
+                highRoot[i] = Math.max(a, b);
+                state[i] = 0;
+                writeMin(reserved, lowRoot[i], position);
+                writeMin(reserved, highRoot[i], position);
+            }));
+
+            // Commit: an edge holding both claims links the larger root under the smaller
+            run(() -> IntStream.range(0, count).parallel().forEach(i -> {
+                if (state[i] == 0 && reserved.get(lowRoot[i]) == active[i] && reserved.get(highRoot[i]) == active[i]) {
+                    parent.set(highRoot[i], lowRoot[i]);
+                    state[i] = 2;
+                }
+            }));
+
+            // Release every claim made this round, won or lost
+            run(() -> IntStream.range(0, count).parallel().forEach(i -> {
+                if (state[i] != 1) {
+                    reserved.set(lowRoot[i], UNRESERVED);
+                    reserved.set(highRoot[i], UNRESERVED);
+                }
+            }));
+
+            // Carve accepted edges and keep the rest, in order, for the next round
+            activeCount = 0;
+            for (int i = 0; i < count; i++) {
+                if (state[i] == 2) {
+                    int edge = (int) order[active[i]];
+                    int cell = edge >>> 1;
+                    maze.removeWall(cell / cols, cell % cols, (edge & 1) == 0 ? Direction.RIGHT : Direction.DOWN);
+                } else if (state[i] == 0) {
+                    active[activeCount++] = active[i];
+                }
+            }
+        }
+    }
+
+    /*
+     * Returns all interior edges in shuffled order. Each entry's low 32 bits hold the
+     * edge id: cell index * 2, plus 1 for the DOWN edge (0 for RIGHT).
+     */
+    long[] shuffledEdges(int edgeCount) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        long[] keys = new long[edgeCount];
+
+        run(() -> IntStream.range(0, rows).parallel().forEach(r -> {
+            int position = r * (2 * cols - 1);
+            for (int c = 0; c < cols - 1; c++) {
+                keys[position++] = key(2 * (r * cols + c));
+            }
+            if (r < rows - 1) {
+                for (int c = 0; c < cols; c++) {
+                    keys[position++] = key(2 * (r * cols + c) + 1);
+                }
+            }
+        }));
+
+        run(() -> Arrays.parallelSort(keys));
+        return keys;
+    }
+
+    private long key(int edge) {
+        return ((SeedMixer.mix(seed, edge) >>> 33) << 32) | edge;
+    }
+
+    private static int neighbourOf(int edge, int cols) {
+        int cell = edge >>> 1;
+        return (edge & 1) == 0 ? cell + 1 : cell + cols;
+    }
+
+    private static int find(AtomicIntegerArray parent, int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) {
+                return x;
+            }
+            int grandparent = parent.get(p);
+            if (p != grandparent) {
+                parent.compareAndSet(x, p, grandparent);
+            }
+            x = grandparent;
+        }
+    }
+
+    private static void writeMin(AtomicIntegerArray array, int index, int value) {
+        int current = array.get(index);
+        while (value < current && !array.compareAndSet(index, current, value)) {
+            current = array.get(index);
+        }
+    }
+
+    private void run(Runnable task) {
+        pool.submit(task).join();
+    }
+}
@@ -0,0 +1,44 @@
+package MazeGen;
+
+import java.util.Random;
+
+/*
+ * LegacyRandom
+ * MazeRandom backed by java.util.Random, matching the draw sequence mazes were
+ * generated with before the RNG became pluggable.
+ */
+final class LegacyRandom implements MazeRandom {
+
+    private final long seed;
+    private final Random rand;
+
+    LegacyRandom(long seed) {
+        this.seed = seed;
+        this.rand = new Random(seed);
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return rand.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return rand.nextLong();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return rand.nextBoolean();
+    }
+
+    @Override
+    public MazeRandom split(long stream) {
+        return new LegacyRandom(SeedMixer.mix(seed, stream));
+    }
+
+    @Override
+    public Version getVersion() {
+        return Version.LEGACY;
+    }
+}
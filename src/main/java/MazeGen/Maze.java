@@ -1,32 +1,95 @@
 package MazeGen;
 
-import java.util.Random;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 
+/*
+ * Maze
+ * Grid model shared by the generators and solvers.
+ *
+ * Storage:
+ * - CELLS keeps one Cell object per position, each holding its own wall set.
+ *   Interior walls are stored twice and kept in sync by whoever carves them.
+ * - PACKED keeps only the RIGHT and DOWN wall of every cell in a flat bit array
+ *   (about 2 bits per cell, see PackedWalls). getCell() returns a lightweight view,
+ *   so cells from a packed maze must be compared with equals() rather than ==.
+ *
+ * Cells are also addressable by index (row * cols + col), which is the layout the
+ * packed storage and the index-based helpers below use.
+ *
+ * Randomness:
+ * - getRand() is a MazeRandom seeded with the maze seed. New mazes use the
+ *   SPLITTABLE version; pass MazeRandom.Version.LEGACY to regenerate mazes from
+ *   seeds published before the RNG became pluggable.
+ *
+ * Terrain:
+ * - Every cell has a traversal cost in [1, MAX_COST], the price of stepping into it.
+ *   Costs live in one byte per cell, allocated on the first setCost() call; until
+ *   then every cell costs 1 and the maze is unweighted (hasCosts() is false).
+ *
+ * Derived data:
+ * - getCached() keeps one precomputed structure per type (for example a solver index)
+ *   so it is built once per maze. A wall change through addWall() or removeWall()
+ *   evicts cached values, except those implementing WallChangeListener, which are
+ *   notified instead.
+ * - Listeners registered with addWallChangeListener() also receive every change, so
+ *   editors and incremental solvers can react to single edits. Cell.addWall() and
+ *   Cell.removeWall() on a cell handed out by the maze go through the same path, for
+ *   both storages.
+ */
 public class Maze {
 
+    public enum Storage { CELLS, PACKED }
+
+    public static final MazeRandom.Version DEFAULT_RANDOM_VERSION = MazeRandom.Version.SPLITTABLE;
+    public static final int MAX_COST = 255;
+
     private long seed;
     private int rows;
     private int cols;
+    private final Storage storage;
     private Cell[][] cells;
-    private Random rand = new Random();
+    private PackedWalls packedWalls;
+    private final MazeRandom rand;
+    private byte[] costs;
 
     private Cell startCell;
     private Cell endCell;
+    private final Map<Class<?>, Object> cache = new ConcurrentHashMap<>();
+    private final List<WallChangeListener> listeners = new CopyOnWriteArrayList<>();
 
     public Maze(long seed, int rows, int cols) {
+        this(seed, rows, cols, Storage.CELLS);
+    }
+
+    public Maze(long seed, int rows, int cols, Storage storage) {
+        this(seed, rows, cols, storage, DEFAULT_RANDOM_VERSION);
+    }
+
+    public Maze(long seed, int rows, int cols, Storage storage, MazeRandom.Version randomVersion) {
         this.seed = seed;
         this.rows = rows;
         this.cols = cols;
-        this.rand.setSeed(seed);
-        this.cells = new Cell[rows][cols];
+        this.storage = storage;
+        this.rand = MazeRandom.create(seed, randomVersion);
 
-        initializeCells();
+        if (storage == Storage.PACKED) {
+            this.packedWalls = new PackedWalls(rows, cols);
+        } else {
+            this.cells = new Cell[rows][cols];
+            initializeCells();
+        }
     }
 
     private void initializeCells() {
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
                 cells[i][j] = new Cell(i,j);
+                cells[i][j].attach(this);
             }
         }
     }
@@ -47,12 +110,30 @@ public class Maze {
     public Cell getEndCell() {
         return endCell;
     }
+    public Storage getStorage() {
+        return storage;
+    }
     public Cell getCell(int row, int col) {
+        if (packedWalls != null) {
+            return new PackedCell(this, row, col);
+        }
         return cells[row][col];
     }
-    public Random getRand() {
+    public Cell getCell(int index) {
+        return getCell(index / cols, index % cols);
+    }
+    public MazeRandom getRand() {
         return rand;
     }
+    public MazeRandom.Version getRandomVersion() {
+        return rand.getVersion();
+    }
+    public int getCost(int row, int col) {
+        return costs == null ? 1 : costs[row * cols + col] & 0xFF;
+    }
+    public boolean hasCosts() {
+        return costs != null;
+    }
 
     private String getArrow(Direction direction) {
         return switch (direction) {
@@ -65,19 +146,118 @@ public class Maze {
 
     //Setters
     public void setCell(int row, int col, Cell cell) {
+        if (packedWalls != null) {
+            throw new UnsupportedOperationException("Packed mazes do not store Cell objects");
+        }
+        cell.attach(this);
         cells[row][col] = cell;
     }
     public void setStartCell(int row, int col) {
-        startCell = cells[row][col];
+        startCell = getCell(row, col);
     }
     public void setEndCell(int row, int col) {
-        endCell = cells[row][col];
+        endCell = getCell(row, col);
+    }
+    public void setCost(int row, int col, int cost) {
+        if (cost < 1 || cost > MAX_COST) {
+            throw new IllegalArgumentException("Cost must be between 1 and " + MAX_COST + ": " + cost);
+        }
+        if (costs == null) {
+            costs = new byte[rows * cols];
+            Arrays.fill(costs, (byte) 1);
+        }
+        costs[row * cols + col] = (byte) cost;
     }
 
     public boolean isInMaze(int row, int col) {
         return row >= 0 && row < rows && col >= 0 && col < cols;
     }
 
+    public int indexOf(int row, int col) {
+        return row * cols + col;
+    }
+
+    /*
+     * Returns the cached instance of type, building it with factory on first use. The
+     * factory may itself call getCached for other types. If two threads race, both may
+     * build an instance but only the first one stored is ever returned.
+     */
+    public <T> T getCached(Class<T> type, Function<Maze, T> factory) {
+        Object value = cache.get(type);
+        if (value == null) {
+            value = factory.apply(this);
+            Object previous = cache.putIfAbsent(type, value);
+            if (previous != null) {
+                value = previous;
+            }
+        }
+        return type.cast(value);
+    }
+
+    public boolean hasWall(int row, int col, Direction direction) {
+        if (packedWalls != null) {
+            return packedWalls.hasWall(row, col, direction);
+        }
+        return cells[row][col].hasWall(direction);
+    }
+
+    /*
+     * Removes the wall on the given side of a cell and, when the neighbour is inside
+     * the maze, the matching wall on the neighbour's side as well.
+     */
+    public void removeWall(int row, int col, Direction direction) {
+        setWall(row, col, direction, false);
+    }
+
+    /*
+     * Puts back the wall on the given side of a cell, on both sides of it.
+     */
+    public void addWall(int row, int col, Direction direction) {
+        setWall(row, col, direction, true);
+    }
+
+    public void addWallChangeListener(WallChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeWallChangeListener(WallChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void setWall(int row, int col, Direction direction, boolean wall) {
+        boolean changed = (!cache.isEmpty() || !listeners.isEmpty()) && hasWall(row, col, direction) != wall;
+        if (packedWalls != null) {
+            packedWalls.setWall(row, col, direction, wall);
+        } else {
+            cells[row][col].setWall(direction, wall);
+            int newRow = row + direction.getRowOffset();
+            int newCol = col + direction.getColOffset();
+            if (isInMaze(newRow, newCol)) {
+                cells[newRow][newCol].setWall(direction.getOpposite(), wall);
+            }
+        }
+        if (changed) {
+            wallChanged(row, col, direction, wall);
+        }
+    }
+
+    /*
+     * Passes a wall change on to registered and cached listeners, and evicts every
+     * other cached value.
+     */
+    private void wallChanged(int row, int col, Direction direction, boolean wall) {
+        for (WallChangeListener listener : listeners) {
+            listener.wallChanged(row, col, direction, wall);
+        }
+        for (Map.Entry<Class<?>, Object> entry : cache.entrySet()) {
+            if (entry.getValue() instanceof WallChangeListener listener) {
+                listener.wallChanged(row, col, direction, wall);
+            } else {
+                cache.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
     public void printCLIMazeWithSolver(int solverRow, int solverCol, Direction dir) {
         String arrow = switch (dir) {
             case UP -> "↑";
@@ -89,7 +269,7 @@ public class Maze {
         for (int r = 0; r < rows; r++) {
             // Top walls
             for (int c = 0; c < cols; c++) {
-                Cell cell = cells[r][c];
+                Cell cell = getCell(r, c);
                 System.out.print("+");
                 if (!cell.hasWall(Direction.UP) || isStartEdge(this, cell, Direction.UP)) {
                     System.out.print("   ");
@@ -101,7 +281,7 @@ public class Maze {
 
             // Content row
             for (int c = 0; c < cols; c++) {
-                Cell cell = cells[r][c];
+                Cell cell = getCell(r, c);
 
                 // Left wall
                 if (cell.hasWall(Direction.LEFT) && !isStartEdge(this, cell, Direction.LEFT)) {
@@ -113,9 +293,9 @@ public class Maze {
                 // Content logic
                 if (r == solverRow && c == solverCol) {
                     System.out.print(" " + arrow + " ");
-                } else if (cell == startCell) {
+                } else if (cell.equals(startCell)) {
                     System.out.print("\u001B[32m🟢 \u001B[0m");
-                } else if (cell == endCell) {
+                } else if (cell.equals(endCell)) {
                     System.out.print(" \u001B[31m🚩\u001B[0m");
                 } else {
                     System.out.print("   ");
@@ -123,7 +303,7 @@ public class Maze {
             }
 
             // Rightmost wall
-            Cell lastCell = cells[r][cols - 1];
+            Cell lastCell = getCell(r, cols - 1);
             if (lastCell.hasWall(Direction.RIGHT) && !isStartEdge(this, lastCell, Direction.RIGHT)) {
                 System.out.println("|");
             } else {
@@ -133,7 +313,7 @@ public class Maze {
 
         // Bottom walls
         for (int c = 0; c < cols; c++) {
-            Cell cell = cells[rows - 1][c];
+            Cell cell = getCell(rows - 1, c);
             System.out.print("+");
             if (!cell.hasWall(Direction.DOWN) || isStartEdge(this, cell, Direction.DOWN)) {
                 System.out.print("   ");
@@ -146,7 +326,7 @@ public class Maze {
 
 
     private boolean isStartEdge(Maze maze, Cell cell, Direction dir) {
-        return cell == maze.getStartCell() &&
+        return cell.equals(maze.getStartCell()) &&
                 switch (dir) {
                     case UP -> cell.getRow() == 0;
                     case DOWN -> cell.getRow() == maze.getRows() - 1;
@@ -1,51 +1,111 @@
 package MazeGen;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 /*
  * MazeGenerator
  * Responsible for generating a perfect maze using a depth-first recursive
  * backtracking algorithm.
  *
+ * Algorithms:
+ * - RECURSIVE_BACKTRACKER (default) recurses once per cell and shuffles a fresh
+ *   direction list at every step. Limited to roughly 100 x 100 by the thread stack.
+ * - ITERATIVE_BACKTRACKER runs the same depth-first carving on an explicit int
+ *   stack with a fixed direction permutation table (see IterativeBacktracker).
+ *   It scales to very large grids but draws from the RNG differently, so the same
+ *   seed produces a different (equally valid) layout than the recursive mode.
+ * - ELLER carves row by row with Eller's algorithm (see EllerGenerator, which can
+ *   also stream rows to a MazeRowSink without building a Maze at all).
+ * - KRUSKAL runs a parallel randomized Kruskal on the common ForkJoinPool (see
+ *   KruskalGenerator). Its layout depends on the maze seed only, not on the RNG
+ *   stream or the number of threads.
+ * - TILED carves 256 x 256 tiles in parallel and stitches them with a spanning tree
+ *   over the tile grid (see TiledGenerator). Also thread-count independent.
+ * - SIDEWINDER and BINARY_TREE are fast, strongly biased row-parallel bulk fillers
+ *   for solver load tests (see RowParallelGenerator).
+ *
  * Design guarantees:
  * - The generated maze is fully connected (every cell is reachable).
  * - The maze contains no cycles (exactly one unique path between any two cells).
  *
  * Determinism:
- * - A seeded Random instance is used so that identical seeds and dimensions
- *   always produce identical maze layouts.
+ * - The maze's seeded MazeRandom is used so that identical seeds, RNG versions
+ *   and dimensions always produce identical maze layouts. With the LEGACY version
+ *   the recursive backtracker reproduces the original java.util.Random layouts.
  *
  * Implementation notes:
  * - Walls are removed symmetrically between adjacent cells to preserve
  *   maze consistency.
  * - Start and end locations are selected after generation, favoring dead-end
  *   cells to increase solution path length.
+ *
+ * Placement:
+ * - DEAD_END (default) picks a random far dead end from a random edge start.
+ * - FARTHEST_DEAD_END keeps the random edge start and picks the dead end farthest
+ *   from it, using one allocation-free int-array BFS.
+ * - DIAMETER places start and end on the two ends of the maze's longest path
+ *   (two BFS sweeps, exact on perfect mazes). The start is not necessarily on
+ *   the outer edge in this mode.
  */
 
 public class MazeGenerator {
 
+    public enum Algorithm { RECURSIVE_BACKTRACKER, ITERATIVE_BACKTRACKER, ELLER, KRUSKAL, TILED, SIDEWINDER, BINARY_TREE }
+
+    public enum Placement { DEAD_END, FARTHEST_DEAD_END, DIAMETER }
+
     private final Maze maze;
-    private final boolean[][] visited;
+    private final Algorithm algorithm;
+    private final Placement placement;
+    private boolean[][] visited;
 
     public MazeGenerator(Maze maze) {
+        this(maze, Algorithm.RECURSIVE_BACKTRACKER);
+    }
+
+    public MazeGenerator(Maze maze, Algorithm algorithm) {
+        this(maze, algorithm, Placement.DEAD_END);
+    }
+
+    public MazeGenerator(Maze maze, Algorithm algorithm, Placement placement) {
         this.maze = maze;
-        this.visited = new boolean[maze.getRows()][maze.getCols()];
+        this.algorithm = algorithm;
+        this.placement = placement;
     }
 
     public void generateMaze() {
         int startRow = maze.getRand().nextInt(maze.getRows());
         int startCol = maze.getRand().nextInt(maze.getCols());
 
-        dfs(startRow, startCol);
-        placeStartAndEndAtDeadEnd();
+        switch (algorithm) {
+            case RECURSIVE_BACKTRACKER -> {
+                visited = new boolean[maze.getRows()][maze.getCols()];
+                dfs(startRow, startCol);
+            }
+            case ITERATIVE_BACKTRACKER -> new IterativeBacktracker(maze, maze.getRand()).carve(startRow, startCol);
+            case ELLER -> new EllerGenerator(maze.getRand(), maze.getRows(), maze.getCols())
+                    .generate(MazeRowSink.toMaze(maze));
+            case KRUSKAL -> new KruskalGenerator(maze, ForkJoinPool.commonPool()).carve();
+            case TILED -> new TiledGenerator(maze, TiledGenerator.DEFAULT_TILE_SIZE, ForkJoinPool.commonPool()).carve();
+            case SIDEWINDER -> new RowParallelGenerator(maze, RowParallelGenerator.Style.SIDEWINDER,
+                    ForkJoinPool.commonPool()).carve();
+            case BINARY_TREE -> new RowParallelGenerator(maze, RowParallelGenerator.Style.BINARY_TREE,
+                    ForkJoinPool.commonPool()).carve();
+        }
+
+        switch (placement) {
+            case DEAD_END -> placeStartAndEndAtDeadEnd();
+            case FARTHEST_DEAD_END -> placeStartAndEndAtFarthestDeadEnd();
+            case DIAMETER -> placeStartAndEndOnDiameter();
+        }
     }
 
     private void dfs(int row, int col) {
         visited[row][col] = true;
-        Cell currentCell = maze.getCell(row, col);
 
         List<Direction> directions = new ArrayList<>(List.of(Direction.values()));
-        Collections.shuffle(directions, maze.getRand());
+        shuffle(directions);
 
         for (Direction direction : directions) {
             int newRow = row;
@@ -59,11 +119,8 @@ public class MazeGenerator {
             }
 
             if (maze.isInMaze(newRow, newCol) && !visited[newRow][newCol]) {
-                Cell nextCell = maze.getCell(newRow, newCol);
-
                 // Remove the wall in both cells to maintain bidirectional consistency
-                currentCell.removeWall(direction);
-                nextCell.removeWall(getOpposite(direction));
+                maze.removeWall(row, col, direction);
 
                 dfs(newRow, newCol);
             }
@@ -154,14 +211,105 @@ public class MazeGenerator {
 
     }
 
+    /*
+     * Places the start on a random outer edge cell and the end on the dead end
+     * farthest from it (ties go to the first one reached). One linear BFS sweep.
+     */
+    public void placeStartAndEndAtFarthestDeadEnd() {
+        int[] start = getRandomEdgeCell();
+        maze.setStartCell(start[0], start[1]);
+
+        int n = maze.getRows() * maze.getCols();
+        int[] queue = new int[n];
+        int[] distances = new int[n];
+        int end = farthestDeadEnd(maze.indexOf(start[0], start[1]), queue, distances);
+        maze.setEndCell(end / maze.getCols(), end % maze.getCols());
+    }
 
-    private Direction getOpposite(Direction direction) {
-        return switch (direction){
-            case UP -> Direction.DOWN;
-            case DOWN -> Direction.UP;
-            case LEFT -> Direction.RIGHT;
-            case RIGHT -> Direction.LEFT;
-        };
+    /*
+     * Places start and end on the endpoints of the longest path in the maze.
+     * The first sweep finds the cell farthest from cell 0, which on a tree is one
+     * end of a diameter; the second sweep from there finds the other end.
+     * Of the two endpoints, one lying on the outer edge is preferred as the start.
+     */
+    public void placeStartAndEndOnDiameter() {
+        int n = maze.getRows() * maze.getCols();
+        int[] queue = new int[n];
+        int[] distances = new int[n];
+
+        int first = farthestDeadEnd(0, queue, distances);
+        int second = farthestDeadEnd(first, queue, distances);
+
+        int start = first;
+        int end = second;
+        if (!isOnEdge(first) && isOnEdge(second)) {
+            start = second;
+            end = first;
+        }
+        maze.setStartCell(start / maze.getCols(), start % maze.getCols());
+        maze.setEndCell(end / maze.getCols(), end % maze.getCols());
+    }
+
+    /*
+     * BFS over cell indices using a preallocated int queue and distance array.
+     * Returns the farthest cell with exactly one open side (any farthest cell if
+     * the source is the only cell). On a perfect maze the farthest cell is always
+     * such a dead end.
+     */
+    private int farthestDeadEnd(int source, int[] queue, int[] distances) {
+        int cols = maze.getCols();
+        Direction[] directions = Direction.values();
+        Arrays.fill(distances, -1);
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        distances[source] = 0;
+
+        int best = source;
+        int bestDistance = -1;
+
+        while (head < tail) {
+            int current = queue[head++];
+            int row = current / cols;
+            int col = current % cols;
+            int openNeighbors = 0;
+
+            for (Direction dir : directions) {
+                int newRow = row + dir.getRowOffset();
+                int newCol = col + dir.getColOffset();
+                if (!maze.isInMaze(newRow, newCol) || maze.hasWall(row, col, dir)) continue;
+
+                openNeighbors++;
+                int next = newRow * cols + newCol;
+                if (distances[next] < 0) {
+                    distances[next] = distances[current] + 1;
+                    queue[tail++] = next;
+                }
+            }
+
+            if (current != source && openNeighbors == 1 && distances[current] > bestDistance) {
+                best = current;
+                bestDistance = distances[current];
+            }
+        }
+
+        return best;
+    }
+
+    private boolean isOnEdge(int index) {
+        int row = index / maze.getCols();
+        int col = index % maze.getCols();
+        return row == 0 || row == maze.getRows() - 1 || col == 0 || col == maze.getCols() - 1;
+    }
+
+    /*
+     * Same draws as Collections.shuffle(list, rnd), so LEGACY seeds keep their layouts.
+     */
+    private void shuffle(List<Direction> directions) {
+        for (int i = directions.size(); i > 1; i--) {
+            Collections.swap(directions, i - 1, maze.getRand().nextInt(i));
+        }
     }
 
     private int[] getRandomEdgeCell() {
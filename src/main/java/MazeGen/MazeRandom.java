@@ -0,0 +1,42 @@
+package MazeGen;
+
+/*
+ * MazeRandom
+ * Random source used by Maze and the generators.
+ *
+ * Versions:
+ * - SPLITTABLE (default) is backed by java.util.SplittableRandom: no CAS per draw
+ *   and cheap to create, so parallel generators can give every row or tile its own
+ *   stream.
+ * - LEGACY is backed by java.util.Random and reproduces the exact draw sequence of
+ *   older releases, so previously published seeds regenerate the same mazes.
+ *
+ * Splitting:
+ * - split(stream) derives a child stream from the root seed and the stream id only.
+ *   It does not depend on how many values were drawn before, so a child stream is
+ *   the same no matter which thread requests it or when. Children keep the parent's
+ *   version.
+ *
+ * Instances are not meant to be shared between threads; split instead.
+ */
+public interface MazeRandom {
+
+    enum Version { LEGACY, SPLITTABLE }
+
+    int nextInt(int bound);
+
+    long nextLong();
+
+    boolean nextBoolean();
+
+    MazeRandom split(long stream);
+
+    Version getVersion();
+
+    static MazeRandom create(long seed, Version version) {
+        return switch (version) {
+            case LEGACY -> new LegacyRandom(seed);
+            case SPLITTABLE -> new SplittableMazeRandom(seed);
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package MazeGen;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/*
+ * MazeRowSink
+ * Receives a maze one row at a time from a streaming generator (see EllerGenerator).
+ *
+ * For every row r the sink is handed two arrays of length cols:
+ * - rightWalls[c] is true when cell (r, c) has a wall on its RIGHT side.
+ * - downWalls[c] is true when cell (r, c) has a wall on its DOWN side.
+ * The outer border is always closed. The arrays are reused between rows, so a sink
+ * that needs to keep them must copy them.
+ */
+public interface MazeRowSink {
+
+    void acceptRow(int row, boolean[] rightWalls, boolean[] downWalls);
+
+    /*
+     * Carves the streamed rows into an existing maze (either storage).
+     */
+    static MazeRowSink toMaze(Maze maze) {
+        return (row, rightWalls, downWalls) -> {
+            for (int c = 0; c < maze.getCols(); c++) {
+                if (!rightWalls[c] && c < maze.getCols() - 1) {
+                    maze.removeWall(row, c, Direction.RIGHT);
+                }
+                if (!downWalls[c] && row < maze.getRows() - 1) {
+                    maze.removeWall(row, c, Direction.DOWN);
+                }
+            }
+        };
+    }
+
+    /*
+     * Writes the streamed rows as ASCII art in the same style as Maze.printCLIMazeWithSolver,
+     * without keeping anything but the current row in memory.
+     */
+    static MazeRowSink toAscii(Writer out) {
+        return (row, rightWalls, downWalls) -> {
+            int cols = rightWalls.length;
+            StringBuilder line = new StringBuilder(4 * cols + 2);
+            try {
+                if (row == 0) {
+                    line.append("+---".repeat(cols)).append("+\n");
+                }
+
+                line.append('|');
+                for (int c = 0; c < cols; c++) {
+                    line.append("   ").append(rightWalls[c] ? '|' : ' ');
+                }
+                line.append('\n');
+
+                for (int c = 0; c < cols; c++) {
+                    line.append(downWalls[c] ? "+---" : "+   ");
+                }
+                line.append("+\n");
+
+                out.write(line.toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
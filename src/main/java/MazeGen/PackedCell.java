@@ -0,0 +1,65 @@
+package MazeGen;
+
+import java.util.EnumSet;
+
+/*
+ * PackedCell
+ * Lightweight Cell view over a packed Maze.
+ *
+ * Packed mazes do not keep Cell objects around; getCell() hands out a fresh view
+ * that reads and writes the maze's PackedWalls directly. Because two views of the
+ * same position are different objects, they compare with equals() rather than ==.
+ *
+ * Removing a wall through a view is symmetric: the neighbouring cell shares the
+ * same wall bit. The visited flag lives on the view only and is not persisted.
+ */
+final class PackedCell extends Cell {
+
+    private final Maze maze;
+
+    PackedCell(Maze maze, int row, int col) {
+        super(row, col, null);
+        this.maze = maze;
+    }
+
+    /*
+     * Returns a snapshot of the current walls; changes to the set are not written back.
+     */
+    @Override
+    public EnumSet<Direction> getWalls() {
+        EnumSet<Direction> walls = EnumSet.noneOf(Direction.class);
+        for (Direction direction : Direction.values()) {
+            if (hasWall(direction)) {
+                walls.add(direction);
+            }
+        }
+        return walls;
+    }
+
+    @Override
+    public boolean hasWall(Direction direction) {
+        return maze.hasWall(getRow(), getCol(), direction);
+    }
+
+    @Override
+    public void removeWall(Direction direction) {
+        maze.removeWall(getRow(), getCol(), direction);
+    }
+
+    @Override
+    public void addWall(Direction direction) {
+        maze.addWall(getRow(), getCol(), direction);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PackedCell other)) return false;
+        return maze == other.maze && getRow() == other.getRow() && getCol() == other.getCol();
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getRow() + getCol();
+    }
+}
@@ -0,0 +1,88 @@
+package MazeGen;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/*
+ * PackedWalls
+ * Flat bit-array wall storage backing a packed Maze.
+ *
+ * Every interior wall is shared by two neighbouring cells, so each cell only owns
+ * its RIGHT and DOWN wall: for the cell with index i = row * cols + col, bit 2*i is
+ * the right wall and bit 2*i+1 the down wall. A cell's UP wall is the DOWN wall of
+ * the cell above it and its LEFT wall is the RIGHT wall of the cell to its left, so
+ * removing a wall is automatically symmetric.
+ *
+ * The outer top and left borders have no owning cell, so they live in two small
+ * side arrays (one bit per column / row). A set bit always means "wall present".
+ *
+ * Writes are atomic read-modify-write operations on the containing long, so
+ * generators may carve disjoint regions of the grid from several threads even when
+ * their bits share a word.
+ */
+final class PackedWalls {
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int cols;
+    private final long[] bits;
+    private final long[] topBorder;
+    private final long[] leftBorder;
+
+    PackedWalls(int rows, int cols) {
+        this.cols = cols;
+        this.bits = new long[wordsFor(2L * rows * cols)];
+        this.topBorder = new long[wordsFor(cols)];
+        this.leftBorder = new long[wordsFor(rows)];
+
+        Arrays.fill(bits, -1L);
+        Arrays.fill(topBorder, -1L);
+        Arrays.fill(leftBorder, -1L);
+    }
+
+    boolean hasWall(int row, int col, Direction direction) {
+        return switch (direction) {
+            case RIGHT -> get(bits, rightBit(row, col));
+            case DOWN -> get(bits, rightBit(row, col) + 1);
+            case LEFT -> col == 0 ? get(leftBorder, row) : get(bits, rightBit(row, col - 1));
+            case UP -> row == 0 ? get(topBorder, col) : get(bits, rightBit(row - 1, col) + 1);
+        };
+    }
+
+    void setWall(int row, int col, Direction direction, boolean wall) {
+        switch (direction) {
+            case RIGHT -> set(bits, rightBit(row, col), wall);
+            case DOWN -> set(bits, rightBit(row, col) + 1, wall);
+            case LEFT -> {
+                if (col == 0) set(leftBorder, row, wall);
+                else set(bits, rightBit(row, col - 1), wall);
+            }
+            case UP -> {
+                if (row == 0) set(topBorder, col, wall);
+                else set(bits, rightBit(row - 1, col) + 1, wall);
+            }
+        }
+    }
+
+    private long rightBit(int row, int col) {
+        return 2L * ((long) row * cols + col);
+    }
+
+    private static int wordsFor(long bitCount) {
+        return (int) ((bitCount + 63) >>> 6);
+    }
+
+    private static boolean get(long[] words, long bit) {
+        return (words[(int) (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    private static void set(long[] words, long bit, boolean value) {
+        int word = (int) (bit >>> 6);
+        if (value) {
+            WORDS.getAndBitwiseOr(words, word, 1L << bit);
+        } else {
+            WORDS.getAndBitwiseAnd(words, word, ~(1L << bit));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package MazeGen;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/*
+ * RowParallelGenerator
+ * Bulk-fill generators (Sidewinder and Binary Tree) that carve every row
+ * independently, so rows can be processed in parallel.
+ *
+ * Design guarantees:
+ * - Both styles produce a perfect maze (fully connected, no cycles).
+ * - Each row draws from its own child stream maze.getRand().split(row), so the
+ *   layout depends only on the seed, RNG version and dimensions, never on the
+ *   number of threads.
+ *
+ * Implementation notes:
+ * - Both styles are oriented so a row only ever opens its own RIGHT and DOWN walls:
+ *   Binary Tree opens DOWN or RIGHT from every cell, and Sidewinder runs along the
+ *   bottom row and closes every other run with a single DOWN opening. In packed
+ *   storage those are bits owned by the row itself (written atomically, see
+ *   PackedWalls), so rows are carved concurrently.
+ * - In CELLS storage removing a DOWN wall also updates the cell below, which
+ *   belongs to another row, so rows are carved sequentially there. The result is
+ *   the same either way.
+ * - These mazes have a strong visual bias (a long open corridor along the bottom
+ *   and right edge) and are meant for load-testing the solvers, not for play.
+ */
+public class RowParallelGenerator {
+
+    public enum Style { SIDEWINDER, BINARY_TREE }
+
+    private final Maze maze;
+    private final Style style;
+    private final MazeRandom root;
+    private final ForkJoinPool pool;
+
+    public RowParallelGenerator(Maze maze, Style style, ForkJoinPool pool) {
+        this.maze = maze;
+        this.style = style;
+        this.root = maze.getRand();
+        this.pool = pool;
+    }
+
+    /**
+     * Carves a perfect maze over the whole grid. Start and end cells are not placed.
+     */
+    public void carve() {
+        if (maze.getStorage() == Maze.Storage.PACKED) {
+            pool.submit(() -> IntStream.range(0, maze.getRows()).parallel().forEach(this::carveRow)).join();
+        } else {
+            for (int row = 0; row < maze.getRows(); row++) {
+                carveRow(row);
+            }
+        }
+    }
+
+    private void carveRow(int row) {
+        MazeRandom rand = root.split(row);
+        switch (style) {
+            case SIDEWINDER -> carveSidewinderRow(row, rand);
+            case BINARY_TREE -> carveBinaryTreeRow(row, rand);
+        }
+    }
+
+    private void carveSidewinderRow(int row, MazeRandom rand) {
+        int cols = maze.getCols();
+
+        if (row == maze.getRows() - 1) {
+            for (int c = 0; c < cols - 1; c++) {
+                maze.removeWall(row, c, Direction.RIGHT);
+            }
+            return;
+        }
+
+        int runStart = 0;
+        for (int c = 0; c < cols; c++) {
+            if (c == cols - 1 || rand.nextBoolean()) {
+                // Close the run with one opening down from a random member
+                int member = runStart + rand.nextInt(c - runStart + 1);
+                maze.removeWall(row, member, Direction.DOWN);
+                runStart = c + 1;
+            } else {
+                maze.removeWall(row, c, Direction.RIGHT);
+            }
+        }
+    }
+
+    private void carveBinaryTreeRow(int row, MazeRandom rand) {
+        int cols = maze.getCols();
+        boolean lastRow = row == maze.getRows() - 1;
+
+        for (int c = 0; c < cols; c++) {
+            boolean canGoRight = c < cols - 1;
+            if (lastRow && !canGoRight) {
+                continue;
+            }
+
+            if (lastRow || (canGoRight && rand.nextBoolean())) {
+                maze.removeWall(row, c, Direction.RIGHT);
+            } else {
+                maze.removeWall(row, c, Direction.DOWN);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package MazeGen;
+
+/*
+ * SeedMixer
+ * Derives independent, well-distributed values from a maze seed and a stream id
+ * (an edge, a row, a tile, ...) using the SplitMix64 finalizer.
+ *
+ * Parallel generators use this instead of drawing from a shared Random so that the
+ * value for a given id never depends on which thread asks for it or in what order.
+ */
+final class SeedMixer {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private SeedMixer() {
+    }
+
+    static long mix(long seed, long stream) {
+        long z = seed + (stream + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
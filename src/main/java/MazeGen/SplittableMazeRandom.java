@@ -0,0 +1,43 @@
+package MazeGen;
+
+import java.util.SplittableRandom;
+
+/*
+ * SplittableMazeRandom
+ * Default MazeRandom backed by java.util.SplittableRandom (unsynchronized).
+ */
+final class SplittableMazeRandom implements MazeRandom {
+
+    private final long seed;
+    private final SplittableRandom rand;
+
+    SplittableMazeRandom(long seed) {
+        this.seed = seed;
+        this.rand = new SplittableRandom(seed);
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return rand.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return rand.nextLong();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return rand.nextBoolean();
+    }
+
+    @Override
+    public MazeRandom split(long stream) {
+        return new SplittableMazeRandom(SeedMixer.mix(seed, stream));
+    }
+
+    @Override
+    public Version getVersion() {
+        return Version.SPLITTABLE;
+    }
+}
@@ -0,0 +1,36 @@
+package MazeGen;
+
+/*
+ * TerrainGenerator
+ * Assigns random traversal costs to every cell of a maze (see Maze.setCost), turning
+ * it into a weighted graph for benchmarking weighted solvers.
+ *
+ * Costs are drawn uniformly from [1, maxCost] using maze.getRand().split(RANDOM_STREAM),
+ * so the terrain is reproducible from the maze seed and independent of how the walls
+ * were generated.
+ */
+public class TerrainGenerator {
+
+    static final long RANDOM_STREAM = -3;
+
+    private final Maze maze;
+
+    public TerrainGenerator(Maze maze) {
+        this.maze = maze;
+    }
+
+    /**
+     * Gives every cell a random cost between 1 and maxCost.
+     */
+    public void generate(int maxCost) {
+        if (maxCost < 1 || maxCost > Maze.MAX_COST) {
+            throw new IllegalArgumentException("Max cost must be between 1 and " + Maze.MAX_COST + ": " + maxCost);
+        }
+        MazeRandom rand = maze.getRand().split(RANDOM_STREAM);
+        for (int r = 0; r < maze.getRows(); r++) {
+            for (int c = 0; c < maze.getCols(); c++) {
+                maze.setCost(r, c, 1 + rand.nextInt(maxCost));
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package MazeGen;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/*
+ * TiledGenerator
+ * Generates a perfect maze by carving fixed-size tiles in parallel and stitching
+ * them together.
+ *
+ * Design guarantees:
+ * - Every tile is carved as an independent perfect sub-maze, and neighbouring tiles
+ *   are joined by exactly one opening along the edges of a spanning tree over the
+ *   tile grid, so the whole maze is still fully connected and cycle-free.
+ * - Output depends only on the seed, RNG version, dimensions and tile size. Each
+ *   tile draws from its own child stream maze.getRand().split(tileIndex), and the
+ *   stitching uses split(-1), so the number of threads never changes the result.
+ *
+ * Implementation notes:
+ * - Tiles are carved with IterativeBacktracker restricted to the tile rectangle, so
+ *   a tile never touches a cell outside itself and tiles can run concurrently for
+ *   both storages (packed writes are atomic, see PackedWalls).
+ * - Edge tiles are simply smaller when the grid is not a multiple of the tile size.
+ * - Stitching runs on the calling thread: randomized Kruskal over the tile grid,
+ *   opening one random wall along the shared border of every accepted tile pair.
+ */
+public class TiledGenerator {
+
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    private final Maze maze;
+    private final MazeRandom root;
+    private final int tileSize;
+    private final ForkJoinPool pool;
+
+    public TiledGenerator(Maze maze, int tileSize, ForkJoinPool pool) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        }
+        this.maze = maze;
+        this.root = maze.getRand();
+        this.tileSize = tileSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Carves a perfect maze over the whole grid. Start and end cells are not placed.
+     */
+    public void carve() {
+        int tileRows = (maze.getRows() + tileSize - 1) / tileSize;
+        int tileCols = (maze.getCols() + tileSize - 1) / tileSize;
+
+        pool.submit(() -> IntStream.range(0, tileRows * tileCols).parallel()
+                .forEach(tile -> carveTile(tile / tileCols, tile % tileCols, tile))).join();
+
+        stitch(tileRows, tileCols);
+    }
+
+    private void carveTile(int tileRow, int tileCol, int tileIndex) {
+        int top = tileRow * tileSize;
+        int left = tileCol * tileSize;
+        int height = Math.min(tileSize, maze.getRows() - top);
+        int width = Math.min(tileSize, maze.getCols() - left);
+
+        MazeRandom rand = root.split(tileIndex);
+        int startRow = top + rand.nextInt(height);
+        int startCol = left + rand.nextInt(width);
+        new IterativeBacktracker(maze, rand).carve(top, left, height, width, startRow, startCol);
+    }
+
+    private void stitch(int tileRows, int tileCols) {
+        int tileCount = tileRows * tileCols;
+        MazeRandom rand = root.split(-1);
+
+        // Tile edges: tile * 2 for the edge to the right, tile * 2 + 1 for the edge below
+        int[] edges = new int[2 * tileCount];
+        int edgeCount = 0;
+        for (int tile = 0; tile < tileCount; tile++) {
+            if (tile % tileCols < tileCols - 1) edges[edgeCount++] = 2 * tile;
+            if (tile / tileCols < tileRows - 1) edges[edgeCount++] = 2 * tile + 1;
+        }
+        for (int i = edgeCount - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int swap = edges[i];
+            edges[i] = edges[j];
+            edges[j] = swap;
+        }
+
+        int[] parent = new int[tileCount];
+        for (int tile = 0; tile < tileCount; tile++) {
+            parent[tile] = tile;
+        }
+
+        for (int i = 0; i < edgeCount; i++) {
+            int tile = edges[i] >>> 1;
+            boolean down = (edges[i] & 1) == 1;
+            int other = down ? tile + tileCols : tile + 1;
+
+            int a = find(parent, tile);
+            int b = find(parent, other);
+            if (a == b) {
+                continue;
+            }
+            parent[b] = a;
+
+            int tileRow = tile / tileCols;
+            int tileCol = tile % tileCols;
+            if (down) {
+                int row = (tileRow + 1) * tileSize - 1;
+                int left = tileCol * tileSize;
+                int width = Math.min(tileSize, maze.getCols() - left);
+                maze.removeWall(row, left + rand.nextInt(width), Direction.DOWN);
+            } else {
+                int col = (tileCol + 1) * tileSize - 1;
+                int top = tileRow * tileSize;
+                int height = Math.min(tileSize, maze.getRows() - top);
+                maze.removeWall(top + rand.nextInt(height), col, Direction.RIGHT);
+            }
+        }
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
@@ -0,0 +1,18 @@
+package MazeGen;
+
+/*
+ * WallChangeListener
+ * Told about every wall that a Maze adds or removes.
+ *
+ * A change is reported once per shared wall, from the side it was made on:
+ * (row, col, direction) is the cell and side passed to the Maze, and wall is the new
+ * state (true = wall present). The event fires after the maze has been updated.
+ *
+ * Values stored with Maze.getCached() that implement this interface are kept across
+ * wall changes and notified instead of being evicted, so they can repair themselves
+ * incrementally.
+ */
+public interface WallChangeListener {
+
+    void wallChanged(int row, int col, Direction direction, boolean wall);
+}
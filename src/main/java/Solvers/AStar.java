@@ -13,26 +13,36 @@ import java.util.*;
  *
  * Notes:
  * - Uses gScore (cost from start) and cameFrom (parent pointers) to reconstruct the final path.
- * - Records visitedOrder to support UI animation/visualization.
+ * - Records visitedOrder to support UI animation/visualization; it is cleared at the
+ *   start of every solve().
+ * - solve() borrows gScore, cameFrom, its closed/seen marks and an indexed open list
+ *   from a pooled SolverWorkspace, so neither constructing an AStar nor solving again
+ *   allocates per-cell buffers or queue nodes.
  * - With an admissible heuristic (Manhattan distance on 4-neighbor grids),
  *   A* finds an optimal (shortest) path in an unweighted maze.
+ *
+ * Primitive engine (solveIndices):
+ * - Works on int cell indices (row * cols + col) with int[] g-score and parent
+ *   arrays and no per-node objects.
+ * - Every step costs 1 and Manhattan distance changes by exactly 1 per step, so a
+ *   successor's f is either the current f or f + 2. The open list therefore only
+ *   ever holds two f-levels, each split into one bucket per h value (a Dial-style
+ *   bucket queue). Popping the smallest h within the current f-level gives the
+ *   "larger g wins ties" order. A bitset per level finds the next non-empty bucket.
+ * - Buckets are intrusive doubly linked lists over next/prev int arrays, so a
+ *   cell whose g improves is moved between buckets in O(1).
  */
 
 public class AStar {
 
     private final Maze maze;
-    private final boolean[][] visited;
     private Duration timeToSolve;
-    private final Map<Cell, Integer> gScore;
-    private final Map<Cell, Cell> cameFrom;
     private List<Cell> path;
-    private List<Cell> visitedOrder = new ArrayList<>(); //For Animation
+    private final List<Cell> visitedOrder = new ArrayList<>(); //For Animation
+    private int expandedCount;
 
     public AStar(Maze maze) {
         this.maze = maze;
-        this.visited = new boolean[maze.getRows()][maze.getCols()];
-        this.gScore = new HashMap<>();
-        this.cameFrom = new HashMap<>();
         this.path = new ArrayList<>();
     }
 
@@ -44,57 +54,63 @@ public class AStar {
 
     public List<Cell> solve(){
         long startTime = System.nanoTime();
-        path.clear();
+        path = new ArrayList<>();
+        visitedOrder.clear();
         Cell start = maze.getStartCell();
         Cell end = maze.getEndCell();
 
-        PriorityQueue<CellNode> pq = new PriorityQueue<>();
-        gScore.put(start, 0);
-        int estimated = manhattan(start, end);
-        pq.add(new CellNode(start, 0, estimated, null));
-
-        while(!pq.isEmpty()){
-            CellNode currentNode = pq.poll();
-            Cell currentCell = currentNode.cell;
-
-            if(visited[currentCell.getRow()][currentCell.getCol()]) continue;
-            visited[currentCell.getRow()][currentCell.getCol()] = true;
-            visitedOrder.add(currentCell);
-
-            if(currentCell.equals(end)){
-                // Goal reached: reconstruct path using cameFrom pointers
-                reconstructPath(currentCell);
-                long endTime = System.nanoTime();
-                timeToSolve = Duration.ofNanos(endTime - startTime);
-                return path;
-            }
+        int cols = maze.getCols();
+        SolverWorkspace workspace = SolverWorkspace.acquire(maze.getRows() * cols);
+        try {
+            int[] gScore = workspace.cost();
+            int[] cameFrom = workspace.parent();
+            IndexedMinHeap open = workspace.heap();
+            int startIndex = maze.indexOf(start.getRow(), start.getCol());
+            int goal = maze.indexOf(end.getRow(), end.getCol());
 
-            for (MazeGen.Direction dir : MazeGen.Direction.values()) {
-                if (!currentCell.hasWall(dir)) {
-                    int newRow = currentCell.getRow(), newCol = currentCell.getCol();
-                    switch (dir) {
-                        case UP -> newRow--;
-                        case DOWN -> newRow++;
-                        case LEFT -> newCol--;
-                        case RIGHT -> newCol++;
-                    }
+            expandedCount = 0;
+            gScore[startIndex] = 0;
+            cameFrom[startIndex] = -1;
+            workspace.see(startIndex);
+            open.push(startIndex, manhattan(start, end));
+
+            while(!open.isEmpty()){
+                int current = open.poll();
+                workspace.finish(current);
+                Cell currentCell = maze.getCell(current);
+                visitedOrder.add(currentCell);
+                expandedCount++;
+
+                if(current == goal){
+                    // Goal reached: reconstruct path using cameFrom pointers
+                    reconstructPath(cameFrom, goal);
+                    break;
+                }
 
-                    if (maze.isInMaze(newRow, newCol)) {
-                        Cell neighbor = maze.getCell(newRow, newCol);
-                        int tentativeG = gScore.get(currentCell) + 1;
-
-                        if (!gScore.containsKey(neighbor) || tentativeG < gScore.get(neighbor)) {
-                            gScore.put(neighbor, tentativeG);
-                            // Heuristic: Manhattan distance (valid for 4-direction grid movement)
-                            int h = manhattan(neighbor, end);
-                            int f = tentativeG + h;
-                            cameFrom.put(neighbor, currentCell);
-                            pq.add(new CellNode(neighbor, tentativeG, f, currentCell));
-                        }
+                int row = current / cols;
+                int col = current % cols;
+                for (MazeGen.Direction dir : MazeGen.Direction.values()) {
+                    int newRow = row + dir.getRowOffset();
+                    int newCol = col + dir.getColOffset();
+                    if (maze.hasWall(row, col, dir) || !maze.isInMaze(newRow, newCol)) continue;
+
+                    int neighbor = newRow * cols + newCol;
+                    if (workspace.isDone(neighbor)) continue;
+                    int tentativeG = gScore[current] + 1;
+
+                    if (!workspace.isSeen(neighbor) || tentativeG < gScore[neighbor]) {
+                        workspace.see(neighbor);
+                        gScore[neighbor] = tentativeG;
+                        cameFrom[neighbor] = current;
+                        // Heuristic: Manhattan distance (valid for 4-direction grid movement)
+                        open.push(neighbor, tentativeG + manhattan(newRow, newCol, end.getRow(), end.getCol()));
                     }
                 }
             }
+        } finally {
+            workspace.release();
         }
+
         long endTime = System.nanoTime();
         timeToSolve = Duration.ofNanos(endTime - startTime);
         return path; // Empty path if not found
@@ -104,31 +120,169 @@ public class AStar {
         return Math.abs(a.getRow() - b.getRow()) + Math.abs(a.getCol() - b.getCol());
     }
 
-    private void reconstructPath(Cell end) {
-        LinkedList<Cell> fullPath = new LinkedList<>();
-        for (Cell at = end; at != null; at = cameFrom.get(at)) {
-            fullPath.addFirst(at);
+    private void reconstructPath(int[] cameFrom, int goal) {
+        for (int at = goal; at >= 0; at = cameFrom[at]) {
+            path.add(maze.getCell(at));
+        }
+        Collections.reverse(path);
+    }
+
+    /**
+     * Runs A* from the maze start cell to the maze end cell using the primitive
+     * bucket-queue engine. Does not record visitedOrder.
+     *
+     * @return The cell indices (row * cols + col) of a shortest path from start to end,
+     *         or an empty array if no path is found.
+     */
+    public int[] solveIndices() {
+        long startTime = System.nanoTime();
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int n = rows * cols;
+        Cell startCell = maze.getStartCell();
+        Cell endCell = maze.getEndCell();
+        int start = maze.indexOf(startCell.getRow(), startCell.getCol());
+        int goal = maze.indexOf(endCell.getRow(), endCell.getCol());
+        int goalRow = endCell.getRow();
+        int goalCol = endCell.getCol();
+
+        int[] g = new int[n];
+        int[] parent = new int[n];
+        boolean[] closed = new boolean[n];
+        Arrays.fill(g, -1);
+        OpenBuckets open = new OpenBuckets(n, rows + cols - 1);
+        MazeGen.Direction[] directions = MazeGen.Direction.values();
+
+        int startF = manhattan(start / cols, start % cols, goalRow, goalCol);
+        int currentF = startF;
+        g[start] = 0;
+        parent[start] = -1;
+        open.push(start, 0, startF);
+        expandedCount = 0;
+
+        while (!open.isEmpty()) {
+            int level = ((currentF - startF) >> 1) & 1;
+            int current = open.pollMinH(level);
+            if (current < 0) {
+                currentF += 2;
+                continue;
+            }
+
+            closed[current] = true;
+            expandedCount++;
+
+            if (current == goal) {
+                int[] result = buildPath(parent, goal, g[goal]);
+                timeToSolve = Duration.ofNanos(System.nanoTime() - startTime);
+                return result;
+            }
+
+            int row = current / cols;
+            int col = current % cols;
+            for (MazeGen.Direction dir : directions) {
+                int newRow = row + dir.getRowOffset();
+                int newCol = col + dir.getColOffset();
+                if (!maze.isInMaze(newRow, newCol) || maze.hasWall(row, col, dir)) continue;
+
+                int neighbor = newRow * cols + newCol;
+                int tentativeG = g[current] + 1;
+                if (closed[neighbor] || (g[neighbor] >= 0 && tentativeG >= g[neighbor])) continue;
+
+                int h = manhattan(newRow, newCol, goalRow, goalCol);
+                if (g[neighbor] >= 0) {
+                    open.remove(neighbor, ((g[neighbor] + h - startF) >> 1) & 1, h);
+                }
+                g[neighbor] = tentativeG;
+                parent[neighbor] = current;
+                open.push(neighbor, ((tentativeG + h - startF) >> 1) & 1, h);
+            }
+        }
+
+        timeToSolve = Duration.ofNanos(System.nanoTime() - startTime);
+        return new int[0]; // Empty path if not found
+    }
+
+    private int manhattan(int row, int col, int goalRow, int goalCol) {
+        return Math.abs(row - goalRow) + Math.abs(col - goalCol);
+    }
+
+    private static int[] buildPath(int[] parent, int goal, int length) {
+        int[] result = new int[length + 1];
+        for (int at = goal, i = length; at >= 0; at = parent[at], i--) {
+            result[i] = at;
         }
-        path = fullPath;
+        return result;
     }
 
-    private class CellNode implements Comparable<CellNode> {
-        Cell cell;
-        int cost;
-        int estimatedCost;
-        Cell parent;
-
-        CellNode(Cell cell, int cost, int estimatedCost, Cell parent) {
-            this.cell = cell;
-            this.cost = cost;
-            this.estimatedCost = estimatedCost;
-            this.parent = parent;
+    /*
+     * Open list for solveIndices: two f-levels x one bucket per h value, each bucket
+     * an intrusive LIFO list threaded through next/prev.
+     */
+    private static final class OpenBuckets {
+        private final int hCount;
+        private final int[] heads;
+        private final int[] next;
+        private final int[] prev;
+        private final long[][] nonEmpty;
+        private final int[] firstWord = new int[2];
+        private int size;
+
+        OpenBuckets(int cellCount, int hCount) {
+            this.hCount = hCount;
+            this.heads = new int[2 * hCount];
+            this.next = new int[cellCount];
+            this.prev = new int[cellCount];
+            this.nonEmpty = new long[2][(hCount + 63) >>> 6];
+            Arrays.fill(heads, -1);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
         }
 
-        @Override
-        public int compareTo(CellNode other) {
-            return Integer.compare(estimatedCost, other.estimatedCost);
+        void push(int cell, int level, int h) {
+            int bucket = level * hCount + h;
+            int head = heads[bucket];
+            next[cell] = head;
+            prev[cell] = -1;
+            if (head >= 0) prev[head] = cell;
+            heads[bucket] = cell;
+            nonEmpty[level][h >>> 6] |= 1L << h;
+            firstWord[level] = Math.min(firstWord[level], h >>> 6);
+            size++;
         }
+
+        void remove(int cell, int level, int h) {
+            int bucket = level * hCount + h;
+            if (prev[cell] >= 0) next[prev[cell]] = next[cell];
+            else heads[bucket] = next[cell];
+            if (next[cell] >= 0) prev[next[cell]] = prev[cell];
+            if (heads[bucket] < 0) nonEmpty[level][h >>> 6] &= ~(1L << h);
+            size--;
+        }
+
+        /*
+         * Removes and returns a cell with the smallest h in the given level, or -1 if
+         * the level is empty.
+         */
+        int pollMinH(int level) {
+            long[] bits = nonEmpty[level];
+            for (int word = firstWord[level]; word < bits.length; word++) {
+                if (bits[word] != 0) {
+                    firstWord[level] = word;
+                    int h = (word << 6) + Long.numberOfTrailingZeros(bits[word]);
+                    int cell = heads[level * hCount + h];
+                    remove(cell, level, h);
+                    return cell;
+                }
+            }
+            firstWord[level] = bits.length;
+            return -1;
+        }
+    }
+
+    public int getExpandedCount() {
+        return expandedCount;
     }
 
     public List<Cell> getVisitedOrder() {
@@ -14,23 +14,31 @@ import java.util.*;
  * Because BFS explores in layers on an unweighted grid, it guarantees the shortest path
  * (fewest steps) when a solution exists.
  *
- * Records visitedOrder to support UI animation/visualization and uses parentMap to
- * reconstruct the final path once the goal is reached.
+ * Records visitedOrder to support UI animation/visualization and uses parent indices to
+ * reconstruct the final path once the goal is reached. solve() borrows its visited
+ * marks, queue and parent array from a pooled SolverWorkspace, so neither constructing
+ * a BFS nor solving again allocates per-cell buffers.
+ *
+ * Primitive engine (solveIndices):
+ * - Works on int cell indices (row * cols + col) with a preallocated int ring buffer
+ *   as the queue, an int[] parent array and a long[] bitset for visited cells.
+ * - Buffers are allocated on the first call and reused afterwards, so repeated
+ *   solves allocate only the returned path. Footprint is 8 bytes + 1 bit per cell
+ *   (see getFootprintBytes).
  */
 
 public class BFS {
 
     private final Maze maze;
-    private final boolean[][] visited;
-    private final Map<Cell, Cell> parentMap;
     private List<Cell> path;
     private Duration timeToSolve;
     private final List<Cell> visitedOrder = new ArrayList<>(); // For animation
+    private int[] ring;
+    private int[] parents;
+    private long[] seen;
 
     public BFS(Maze maze) {
         this.maze = maze;
-        this.visited = new boolean[maze.getRows()][maze.getCols()];
-        this.parentMap = new HashMap<>();
         this.path = new ArrayList<>();
     }
 
@@ -41,64 +49,146 @@ public class BFS {
      */
     public List<Cell> solve() {
         long startTime = System.nanoTime();
-        path.clear();
+        path = new ArrayList<>();
         visitedOrder.clear();
-        Queue<Cell> queue = new LinkedList<>();
 
-        Cell startCell = maze.getStartCell();
-        Cell endCell = maze.getEndCell();
+        int cols = maze.getCols();
+        SolverWorkspace workspace = SolverWorkspace.acquire(maze.getRows() * cols);
+        try {
+            int[] queue = workspace.queue();
+            int[] parent = workspace.parent();
+
+            Cell startCell = maze.getStartCell();
+            Cell endCell = maze.getEndCell();
+            int start = maze.indexOf(startCell.getRow(), startCell.getCol());
+            int goal = maze.indexOf(endCell.getRow(), endCell.getCol());
+
+            workspace.see(start);
+            visitedOrder.add(startCell);
+            parent[start] = -1;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+
+            while (head < tail) {
+                int current = queue[head++];
+
+                if (current == goal) {
+                    // Goal reached: reconstruct shortest path using parent pointers
+                    reconstructPath(parent, goal);
+                    break;
+                }
 
-        visited[startCell.getRow()][startCell.getCol()] = true;
-        visitedOrder.add(startCell);
-        queue.add(startCell);
-        parentMap.put(startCell, null);
+                int row = current / cols;
+                int col = current % cols;
+                for (Direction direction : Direction.values()) {
+                    int newRow = row + direction.getRowOffset();
+                    int newCol = col + direction.getColOffset();
+                    if (maze.hasWall(row, col, direction) || !maze.isInMaze(newRow, newCol)) continue;
+
+                    int neighbor = newRow * cols + newCol;
+                    if (!workspace.isSeen(neighbor)) {
+                        workspace.see(neighbor);
+                        visitedOrder.add(maze.getCell(neighbor));
+                        parent[neighbor] = current;
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+        } finally {
+            workspace.release();
+        }
 
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
+        long endTime = System.nanoTime();
+        timeToSolve = Duration.ofNanos(endTime - startTime);
+        return path;
+    }
 
-            if (current.equals(endCell)) {
-                // Goal reached: reconstruct shortest path using parent pointers
-                reconstructPath(endCell);
-                long endTime = System.nanoTime();
-                timeToSolve = Duration.ofNanos(endTime - startTime);
-                return path;
-            }
+    private void reconstructPath(int[] parent, int goal) {
+        for (int at = goal; at >= 0; at = parent[at]) {
+            path.add(maze.getCell(at));
+        }
+        Collections.reverse(path);
+    }
 
-            for (Direction direction : Direction.values()) {
-                if (!current.hasWall(direction)) {
-                    int newRow = current.getRow();
-                    int newCol = current.getCol();
-                    switch (direction) {
-                        case UP -> newRow--;
-                        case DOWN -> newRow++;
-                        case LEFT -> newCol--;
-                        case RIGHT -> newCol++;
-                    }
+    /**
+     * Runs Breadth-First Search from the maze start cell to the maze end cell using the
+     * primitive ring-buffer engine. Does not record visitedOrder.
+     *
+     * @return The cell indices (row * cols + col) of the shortest path from start to end,
+     *         or an empty array if no path is found.
+     */
+    public int[] solveIndices() {
+        long startTime = System.nanoTime();
+        int cols = maze.getCols();
+        int n = maze.getRows() * cols;
+        if (ring == null) {
+            ring = new int[n];
+            parents = new int[n];
+            seen = new long[(n + 63) >>> 6];
+        } else {
+            Arrays.fill(seen, 0L);
+        }
 
-                    if (maze.isInMaze(newRow, newCol)) {
-                        Cell neighbor = maze.getCell(newRow, newCol);
-                        if (!visited[neighbor.getRow()][neighbor.getCol()]) {
-                            visited[neighbor.getRow()][neighbor.getCol()] = true;
-                            visitedOrder.add(neighbor);
-                            queue.add(neighbor);
-                            parentMap.put(neighbor, current);
-                        }
-                    }
+        Cell startCell = maze.getStartCell();
+        Cell endCell = maze.getEndCell();
+        int start = maze.indexOf(startCell.getRow(), startCell.getCol());
+        int goal = maze.indexOf(endCell.getRow(), endCell.getCol());
+        Direction[] directions = Direction.values();
+
+        int head = 0;
+        int tail = 0;
+        int size = 0;
+        ring[tail] = start;
+        tail = tail + 1 == n ? 0 : tail + 1;
+        size++;
+        seen[start >>> 6] |= 1L << start;
+        parents[start] = -1;
+
+        while (size > 0) {
+            int current = ring[head];
+            head = head + 1 == n ? 0 : head + 1;
+            size--;
+
+            if (current == goal) {
+                int length = 0;
+                for (int at = goal; at != start; at = parents[at]) length++;
+                int[] result = new int[length + 1];
+                for (int at = goal, i = length; i >= 0; at = parents[at], i--) {
+                    result[i] = at;
                 }
+                timeToSolve = Duration.ofNanos(System.nanoTime() - startTime);
+                return result;
+            }
+
+            int row = current / cols;
+            int col = current % cols;
+            for (Direction direction : directions) {
+                int newRow = row + direction.getRowOffset();
+                int newCol = col + direction.getColOffset();
+                if (!maze.isInMaze(newRow, newCol) || maze.hasWall(row, col, direction)) continue;
+
+                int neighbor = newRow * cols + newCol;
+                if ((seen[neighbor >>> 6] & (1L << neighbor)) != 0) continue;
+
+                seen[neighbor >>> 6] |= 1L << neighbor;
+                parents[neighbor] = current;
+                ring[tail] = neighbor;
+                tail = tail + 1 == n ? 0 : tail + 1;
+                size++;
             }
         }
 
-        long endTime = System.nanoTime(); // Corrected to nanoTime
-        timeToSolve = Duration.ofNanos(endTime - startTime);
-        return Collections.emptyList();
+        timeToSolve = Duration.ofNanos(System.nanoTime() - startTime);
+        return new int[0];
     }
 
-    private void reconstructPath(Cell end) {
-        LinkedList<Cell> fullPath = new LinkedList<>();
-        for (Cell at = end; at != null; at = parentMap.get(at)) {
-            fullPath.addFirst(at);
-        }
-        path = fullPath;
+    /*
+     * Heap used by the solveIndices buffers for this maze, in bytes.
+     */
+    public long getFootprintBytes() {
+        long n = (long) maze.getRows() * maze.getCols();
+        return 4 * n + 4 * n + 8 * ((n + 63) >>> 6);
     }
 
     public List<Cell> getVisitedOrder() {
@@ -0,0 +1,61 @@
+package Solvers;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/*
+ * BatchResult
+ * Columnar result of BatchSolver: all paths share one int buffer of cell indices.
+ *
+ * Query i owns pathBuffer[offsets[i], offsets[i] + lengths[i]). lengths[i] counts
+ * cells (start and end included) and is 0 when the end cannot be reached.
+ */
+public final class BatchResult {
+
+    private final int[] lengths;
+    private final int[] offsets;
+    private final int[] pathBuffer;
+    private final Duration timeToSolve;
+
+    BatchResult(int[] lengths, int[] offsets, int[] pathBuffer, Duration timeToSolve) {
+        this.lengths = lengths;
+        this.offsets = offsets;
+        this.pathBuffer = pathBuffer;
+        this.timeToSolve = timeToSolve;
+    }
+
+    public int size() {
+        return lengths.length;
+    }
+
+    public int getLength(int query) {
+        return lengths[query];
+    }
+
+    public int getOffset(int query) {
+        return offsets[query];
+    }
+
+    /*
+     * Copy of the cell indices of one query's path.
+     */
+    public int[] getPath(int query) {
+        return Arrays.copyOfRange(pathBuffer, offsets[query], offsets[query] + lengths[query]);
+    }
+
+    public int[] getLengths() {
+        return lengths;
+    }
+
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    public int[] getPathBuffer() {
+        return pathBuffer;
+    }
+
+    public Duration getTimeToSolve() {
+        return timeToSolve;
+    }
+}
@@ -0,0 +1,127 @@
+package Solvers;
+
+import MazeGen.Maze;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/*
+ * Batch Solver
+ *
+ * Answers many (start, end) shortest-path queries on one maze without touching the
+ * maze's own start and end cells.
+ *
+ * Characteristics:
+ * - All queries share one OpenSides snapshot of the maze (cached on the Maze), so
+ *   the search never calls hasWall or isInMaze.
+ * - Each worker thread keeps its own scratch buffers (queue, parent array and an
+ *   epoch-stamped visited array), allocated once per thread and reused across queries
+ *   and batches; a new query just bumps the epoch instead of clearing anything.
+ * - Queries run in parallel on the given ForkJoinPool. Each query is a plain BFS,
+ *   so every path is a shortest path, and results do not depend on thread count.
+ * - Results come back columnar (see BatchResult): lengths plus offsets into a single
+ *   int buffer of cell indices.
+ */
+public class BatchSolver {
+
+    private final Maze maze;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<Scratch> scratch;
+
+    public BatchSolver(Maze maze) {
+        this(maze, ForkJoinPool.commonPool());
+    }
+
+    public BatchSolver(Maze maze, ForkJoinPool pool) {
+        this.maze = maze;
+        this.pool = pool;
+        int n = maze.getRows() * maze.getCols();
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(n));
+    }
+
+    /**
+     * Solves every query i from starts[i] to ends[i], given as cell indices (row * cols + col).
+     *
+     * @return The shortest path of every query, in query order.
+     */
+    public BatchResult solveAll(int[] starts, int[] ends) {
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException("Got " + starts.length + " starts but " + ends.length + " ends");
+        }
+        long startTime = System.nanoTime();
+        OpenSides grid = OpenSides.forMaze(maze);
+        int queries = starts.length;
+        int[][] paths = new int[queries][];
+
+        pool.submit(() -> IntStream.range(0, queries).parallel()
+                .forEach(q -> paths[q] = scratch.get().shortestPath(grid, starts[q], ends[q]))).join();
+
+        int[] lengths = new int[queries];
+        int[] offsets = new int[queries + 1];
+        for (int q = 0; q < queries; q++) {
+            lengths[q] = paths[q].length;
+            offsets[q + 1] = offsets[q] + lengths[q];
+        }
+        int[] buffer = new int[offsets[queries]];
+        for (int q = 0; q < queries; q++) {
+            System.arraycopy(paths[q], 0, buffer, offsets[q], lengths[q]);
+        }
+
+        return new BatchResult(lengths, offsets, buffer, Duration.ofNanos(System.nanoTime() - startTime));
+    }
+
+    /*
+     * Per-thread BFS buffers. stamp[c] == epoch marks c as visited in the current query.
+     */
+    private static final class Scratch {
+        private final int[] queue;
+        private final int[] parent;
+        private final int[] stamp;
+        private int epoch;
+
+        Scratch(int n) {
+            queue = new int[n];
+            parent = new int[n];
+            stamp = new int[n];
+        }
+
+        int[] shortestPath(OpenSides grid, int start, int goal) {
+            if (++epoch == 0) {
+                Arrays.fill(stamp, 0);
+                epoch = 1;
+            }
+
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+            stamp[start] = epoch;
+            parent[start] = -1;
+
+            while (head < tail) {
+                int current = queue[head++];
+                if (current == goal) {
+                    int length = 1;
+                    for (int at = goal; at != start; at = parent[at]) length++;
+                    int[] path = new int[length];
+                    for (int at = goal, i = length - 1; i >= 0; at = parent[at], i--) {
+                        path[i] = at;
+                    }
+                    return path;
+                }
+
+                int sides = grid.sides(current);
+                for (int d = 0; d < 4; d++) {
+                    if ((sides & (1 << d)) == 0) continue;
+                    int neighbor = grid.step(current, d);
+                    if (stamp[neighbor] == epoch) continue;
+                    stamp[neighbor] = epoch;
+                    parent[neighbor] = current;
+                    queue[tail++] = neighbor;
+                }
+            }
+            return new int[0];
+        }
+    }
+}
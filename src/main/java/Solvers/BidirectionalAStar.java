@@ -0,0 +1,153 @@
+package Solvers;
+
+import MazeGen.Cell;
+import MazeGen.Direction;
+import MazeGen.Maze;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Bidirectional A* Solver
+ *
+ * Runs A* forward from the start cell and backward from the end cell, always
+ * expanding the side whose open list is currently smaller.
+ *
+ * Notes:
+ * - Uses the average of the two Manhattan potentials, p(v) = (hEnd(v) - hStart(v)) / 2,
+ *   so both searches see the same non-negative reduced edge costs and the classic
+ *   bidirectional Dijkstra stopping rule applies: stop once the two smallest open keys
+ *   add up to at least the best meeting path found so far. This keeps the result
+ *   optimal (shortest), unlike stopping at the first meeting.
+ * - Keys are doubled to stay integral: forward key = 2g + hEnd - hStart, backward
+ *   key = 2g + hStart - hEnd.
+ * - Works on int cell indices with int g/parent arrays per side and IndexedMinHeap
+ *   open lists. Records visitedOrder and getExpandedCount() for comparison with AStar.
+ */
+public class BidirectionalAStar {
+
+    private final Maze maze;
+    private List<Cell> path = new ArrayList<>();
+    private Duration timeToSolve;
+    private final List<Cell> visitedOrder = new ArrayList<>(); // For animation
+    private int expandedCount;
+
+    public BidirectionalAStar(Maze maze) {
+        this.maze = maze;
+    }
+
+    /**
+     * Runs bidirectional A* between the maze start and end cells.
+     *
+     * @return The shortest path from start to end, or an empty list if no path is found.
+     */
+    public List<Cell> solve() {
+        long startTime = System.nanoTime();
+        path = new ArrayList<>();
+        visitedOrder.clear();
+        expandedCount = 0;
+
+        int cols = maze.getCols();
+        int n = maze.getRows() * cols;
+        int start = maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol());
+        int goal = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+        int[] endpoints = {start, goal};
+
+        int[][] g = {new int[n], new int[n]};
+        int[][] parent = {new int[n], new int[n]};
+        boolean[][] closed = {new boolean[n], new boolean[n]};
+        IndexedMinHeap[] open = {new IndexedMinHeap(n), new IndexedMinHeap(n)};
+        Arrays.fill(g[0], -1);
+        Arrays.fill(g[1], -1);
+
+        for (int side = 0; side < 2; side++) {
+            int source = endpoints[side];
+            g[side][source] = 0;
+            parent[side][source] = -1;
+            open[side].push(source, key(side, source, 0, start, goal));
+        }
+
+        long best = start == goal ? 0 : Long.MAX_VALUE;
+        int meetFrom = start;
+        int meetTo = goal;
+        Direction[] directions = Direction.values();
+
+        while (!open[0].isEmpty() && !open[1].isEmpty()) {
+            if (best != Long.MAX_VALUE && open[0].peekKey() + open[1].peekKey() >= 2 * best) {
+                break;
+            }
+
+            int side = open[0].size() <= open[1].size() ? 0 : 1;
+            int other = 1 - side;
+            int current = open[side].poll();
+            closed[side][current] = true;
+            visitedOrder.add(maze.getCell(current));
+            expandedCount++;
+
+            int row = current / cols;
+            int col = current % cols;
+            for (Direction dir : directions) {
+                int newRow = row + dir.getRowOffset();
+                int newCol = col + dir.getColOffset();
+                if (!maze.isInMaze(newRow, newCol) || maze.hasWall(row, col, dir)) continue;
+
+                int neighbor = newRow * cols + newCol;
+                int tentativeG = g[side][current] + 1;
+
+                if (g[other][neighbor] >= 0 && tentativeG + g[other][neighbor] < best) {
+                    best = tentativeG + g[other][neighbor];
+                    meetFrom = side == 0 ? current : neighbor;
+                    meetTo = side == 0 ? neighbor : current;
+                }
+
+                if (closed[side][neighbor] || (g[side][neighbor] >= 0 && tentativeG >= g[side][neighbor])) continue;
+                g[side][neighbor] = tentativeG;
+                parent[side][neighbor] = current;
+                open[side].push(neighbor, key(side, neighbor, tentativeG, start, goal));
+            }
+        }
+
+        if (best != Long.MAX_VALUE) {
+            List<Cell> forward = new ArrayList<>();
+            for (int at = meetFrom; at >= 0; at = parent[0][at]) {
+                forward.add(maze.getCell(at));
+            }
+            Collections.reverse(forward);
+            path.addAll(forward);
+            if (meetTo != meetFrom) {
+                for (int at = meetTo; at >= 0; at = parent[1][at]) {
+                    path.add(maze.getCell(at));
+                }
+            }
+        }
+
+        long endTime = System.nanoTime();
+        timeToSolve = Duration.ofNanos(endTime - startTime);
+        return path;
+    }
+
+    private long key(int side, int cell, int g, int start, int goal) {
+        int potential = manhattan(cell, goal) - manhattan(cell, start);
+        return 2L * g + (side == 0 ? potential : -potential);
+    }
+
+    private int manhattan(int a, int b) {
+        int cols = maze.getCols();
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+
+    public List<Cell> getVisitedOrder() {
+        return visitedOrder;
+    }
+
+    public int getExpandedCount() {
+        return expandedCount;
+    }
+
+    public Duration getTimeToSolve() {
+        return timeToSolve;
+    }
+}
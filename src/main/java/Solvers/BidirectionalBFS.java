@@ -0,0 +1,146 @@
+package Solvers;
+
+import MazeGen.Cell;
+import MazeGen.Direction;
+import MazeGen.Maze;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Bidirectional BFS Solver
+ *
+ * Grows one BFS frontier from the start cell and one from the end cell, always
+ * advancing whichever frontier is currently smaller by one full level.
+ *
+ * Characteristics:
+ * - Guarantees the shortest path: the level in which the frontiers first touch is
+ *   finished completely and the best meeting edge from that level is kept.
+ * - On long-distance queries it typically expands far fewer cells than BFS;
+ *   getExpandedCount() reports how many, for comparison on the same seed.
+ *
+ * Works on int cell indices with int distance/parent arrays per side. Records
+ * visitedOrder (cells from both sides, in expansion order) for UI animation.
+ */
+public class BidirectionalBFS {
+
+    private final Maze maze;
+    private List<Cell> path = new ArrayList<>();
+    private Duration timeToSolve;
+    private final List<Cell> visitedOrder = new ArrayList<>(); // For animation
+    private int expandedCount;
+
+    public BidirectionalBFS(Maze maze) {
+        this.maze = maze;
+    }
+
+    /**
+     * Runs bidirectional Breadth-First Search between the maze start and end cells.
+     *
+     * @return The shortest path from start to end, or an empty list if no path is found.
+     */
+    public List<Cell> solve() {
+        long startTime = System.nanoTime();
+        path = new ArrayList<>();
+        visitedOrder.clear();
+        expandedCount = 0;
+
+        int cols = maze.getCols();
+        int n = maze.getRows() * cols;
+        int start = maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol());
+        int goal = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+
+        int[][] distance = {new int[n], new int[n]};
+        int[][] parent = {new int[n], new int[n]};
+        int[][] frontier = {new int[n], new int[n]};
+        int[] frontierSize = {1, 1};
+        int[] nextFrontier = new int[n];
+        Arrays.fill(distance[0], -1);
+        Arrays.fill(distance[1], -1);
+
+        distance[0][start] = 0;
+        parent[0][start] = -1;
+        frontier[0][0] = start;
+        distance[1][goal] = 0;
+        parent[1][goal] = -1;
+        frontier[1][0] = goal;
+
+        int best = start == goal ? 0 : Integer.MAX_VALUE;
+        int meetFrom = start;
+        int meetTo = goal;
+        Direction[] directions = Direction.values();
+
+        while (best == Integer.MAX_VALUE && frontierSize[0] > 0 && frontierSize[1] > 0) {
+            int side = frontierSize[0] <= frontierSize[1] ? 0 : 1;
+            int other = 1 - side;
+            int nextSize = 0;
+
+            for (int i = 0; i < frontierSize[side]; i++) {
+                int current = frontier[side][i];
+                visitedOrder.add(maze.getCell(current));
+                expandedCount++;
+
+                int row = current / cols;
+                int col = current % cols;
+                for (Direction dir : directions) {
+                    int newRow = row + dir.getRowOffset();
+                    int newCol = col + dir.getColOffset();
+                    if (!maze.isInMaze(newRow, newCol) || maze.hasWall(row, col, dir)) continue;
+
+                    int neighbor = newRow * cols + newCol;
+                    if (distance[other][neighbor] >= 0) {
+                        int length = distance[side][current] + 1 + distance[other][neighbor];
+                        if (length < best) {
+                            best = length;
+                            meetFrom = side == 0 ? current : neighbor;
+                            meetTo = side == 0 ? neighbor : current;
+                        }
+                    }
+                    if (distance[side][neighbor] < 0) {
+                        distance[side][neighbor] = distance[side][current] + 1;
+                        parent[side][neighbor] = current;
+                        nextFrontier[nextSize++] = neighbor;
+                    }
+                }
+            }
+
+            int[] swap = frontier[side];
+            frontier[side] = nextFrontier;
+            nextFrontier = swap;
+            frontierSize[side] = nextSize;
+        }
+
+        if (best != Integer.MAX_VALUE) {
+            List<Cell> forward = new ArrayList<>();
+            for (int at = meetFrom; at >= 0; at = parent[0][at]) {
+                forward.add(maze.getCell(at));
+            }
+            Collections.reverse(forward);
+            path.addAll(forward);
+            if (meetTo != meetFrom) {
+                for (int at = meetTo; at >= 0; at = parent[1][at]) {
+                    path.add(maze.getCell(at));
+                }
+            }
+        }
+
+        long endTime = System.nanoTime();
+        timeToSolve = Duration.ofNanos(endTime - startTime);
+        return path;
+    }
+
+    public List<Cell> getVisitedOrder() {
+        return visitedOrder;
+    }
+
+    public int getExpandedCount() {
+        return expandedCount;
+    }
+
+    public Duration getTimeToSolve() {
+        return timeToSolve;
+    }
+}
@@ -19,18 +19,30 @@ import java.util.List;
  * - Useful for demonstrating depth-based traversal behavior.
  *
  * Records visitedOrder to support UI animation and path exploration visualization.
+ *
+ * Iterative mode (solveIterative):
+ * - Same search on an explicit stack of int cell indices with a per-frame cursor
+ *   (the next Direction ordinal to try) in a parallel byte array, so path length is
+ *   no longer limited by the thread stack.
+ * - Visits cells in exactly the same order as the recursive solve(), so
+ *   getVisitedOrder() animations are identical.
+ * - The stack itself is the current path, so backtracking is a pointer decrement
+ *   instead of a list removal.
+ *
+ * Both modes borrow their visited marks (and, iteratively, the stack and cursors)
+ * from a pooled SolverWorkspace, so constructing a DFS allocates no per-cell arrays
+ * and repeated solves reuse the same buffers.
  */
 public class DFS {
 
     private final Maze maze;
-    private final boolean[][] visited;
+    private SolverWorkspace workspace;
     private List<Cell> path;
     private Duration timeToSolve;
     private final List<Cell> visitedOrder = new ArrayList<>(); // For animation
 
     public DFS(Maze maze) {
         this.maze = maze;
-        this.visited = new boolean[maze.getRows()][maze.getCols()];
         this.path = new ArrayList<>();
     }
 
@@ -43,7 +55,13 @@ public class DFS {
         long startTime = System.nanoTime();
         path.clear();
         visitedOrder.clear();
-        dfs(maze.getStartCell());
+        workspace = SolverWorkspace.acquire(maze.getRows() * maze.getCols());
+        try {
+            dfs(maze.getStartCell());
+        } finally {
+            workspace.release();
+            workspace = null;
+        }
         long endTime = System.nanoTime();
         timeToSolve = Duration.ofNanos(endTime - startTime);
         return path;
@@ -52,15 +70,15 @@ public class DFS {
     private boolean dfs(Cell current) {
         int row = current.getRow();
         int col = current.getCol();
-        if (!maze.isInMaze(row, col) || visited[row][col]) {
+        if (!maze.isInMaze(row, col) || workspace.isSeen(maze.indexOf(row, col))) {
             return false;
         }
 
-        visited[row][col] = true;
+        workspace.see(maze.indexOf(row, col));
         visitedOrder.add(current);
         path.add(current);
 
-        if (current == maze.getEndCell()) {
+        if (current.equals(maze.getEndCell())) {
             return true;
         }
 
@@ -88,6 +106,75 @@ public class DFS {
         return false;
     }
 
+    /**
+     * Runs Depth-First Search from the maze start cell to the maze end cell without
+     * recursion.
+     *
+     * @return A valid path from start to end if one is found.
+     */
+    public List<Cell> solveIterative() {
+        long startTime = System.nanoTime();
+        path.clear();
+        visitedOrder.clear();
+
+        int cols = maze.getCols();
+        SolverWorkspace workspace = SolverWorkspace.acquire(maze.getRows() * cols);
+        try {
+            int[] stack = workspace.queue();
+            byte[] cursor = workspace.cursor();
+            Direction[] directions = Direction.values();
+            Cell endCell = maze.getEndCell();
+            int goal = maze.indexOf(endCell.getRow(), endCell.getCol());
+
+            Cell startCell = maze.getStartCell();
+            int start = maze.indexOf(startCell.getRow(), startCell.getCol());
+            workspace.see(start);
+            visitedOrder.add(startCell);
+            stack[0] = start;
+            cursor[0] = 0;
+            int size = 1;
+            boolean found = start == goal;
+
+            while (size > 0 && !found) {
+                int top = size - 1;
+                if (cursor[top] == directions.length) {
+                    // Backtrack when no path is found along this branch
+                    size--;
+                    continue;
+                }
+
+                Direction dir = directions[cursor[top]++];
+                int row = stack[top] / cols;
+                int col = stack[top] % cols;
+                int newRow = row + dir.getRowOffset();
+                int newCol = col + dir.getColOffset();
+                if (maze.hasWall(row, col, dir) || !maze.isInMaze(newRow, newCol) || workspace.isSeen(newRow * cols + newCol)) {
+                    continue;
+                }
+
+                workspace.see(newRow * cols + newCol);
+                Cell next = maze.getCell(newRow, newCol);
+                visitedOrder.add(next);
+                stack[size] = newRow * cols + newCol;
+                cursor[size] = 0;
+                size++;
+                found = stack[size - 1] == goal;
+            }
+
+            if (found) {
+                for (int i = 0; i < size; i++) {
+                    path.add(maze.getCell(stack[i]));
+                }
+            }
+        } finally {
+            workspace.release();
+        }
+
+        long endTime = System.nanoTime();
+        timeToSolve = Duration.ofNanos(endTime - startTime);
+        return path;
+    }
+
     public List<Cell> getVisitedOrder() {
         return visitedOrder;
     }
@@ -0,0 +1,287 @@
+package Solvers;
+
+import MazeGen.Cell;
+import MazeGen.Direction;
+import MazeGen.Maze;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+ * Dead-End Filler
+ *
+ * Solves a maze without searching from the start: every dead end other than the start
+ * and end is filled in, then the dead ends that creates are filled, and so on. In a
+ * perfect maze what survives is exactly the start-to-end corridor.
+ *
+ * Parallel pruning:
+ * - Open-side degrees are computed for every cell in one pass, and the rows are split
+ *   into bands, one work queue each, pruned in parallel on a ForkJoinPool.
+ * - A band only fills its own cells. Degrees of cells in a band's first and last row
+ *   can also be lowered by the neighbouring band, so those are always updated with
+ *   atomic decrements; interior rows use plain writes.
+ * - When a decrement turns a cell of another band into a dead end, it is handed to
+ *   that band's inbox and picked up in the next round. Rounds repeat until no band
+ *   has work left.
+ *
+ * The fill order (band by band within each round) is kept as visitedOrder for
+ * animation. Mazes with loops keep their loops, so the final path is found with a BFS
+ * restricted to the surviving cells.
+ */
+public class DeadEndFiller {
+
+    private static final VarHandle DEGREES = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final int MIN_BAND_ROWS = 16;
+
+    private final Maze maze;
+    private final ForkJoinPool pool;
+    private List<Cell> path = new ArrayList<>();
+    private Duration timeToSolve;
+    private int[] pruneOrder = new int[0];
+
+    private int rows;
+    private int cols;
+    private int bandRows;
+    private int[] degree;
+    private boolean[] filled;
+    private int start;
+    private int goal;
+
+    public DeadEndFiller(Maze maze) {
+        this(maze, ForkJoinPool.commonPool());
+    }
+
+    public DeadEndFiller(Maze maze, ForkJoinPool pool) {
+        this.maze = maze;
+        this.pool = pool;
+    }
+
+    /**
+     * Fills every dead end except the start and end, then reads off the path that remains.
+     *
+     * @return The path from start to end, or an empty list if no path is found.
+     */
+    public List<Cell> solve() {
+        long startTime = System.nanoTime();
+        path = new ArrayList<>();
+        rows = maze.getRows();
+        cols = maze.getCols();
+        int n = rows * cols;
+        start = maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol());
+        goal = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+
+        int bands = Math.max(1, Math.min(4 * pool.getParallelism(), rows / MIN_BAND_ROWS));
+        bandRows = (rows + bands - 1) / bands;
+        bands = (rows + bandRows - 1) / bandRows;
+        degree = new int[n];
+        filled = new boolean[n];
+
+        Band[] work = new Band[bands];
+        for (int b = 0; b < bands; b++) {
+            work[b] = new Band(b);
+        }
+        pool.submit(() -> Arrays.stream(work).parallel().forEach(Band::seed)).join();
+
+        boolean pending = true;
+        while (pending) {
+            pool.submit(() -> Arrays.stream(work).parallel().forEach(band -> band.prune(work))).join();
+            pending = false;
+            for (Band band : work) {
+                pending |= !band.inbox.isEmpty();
+            }
+        }
+
+        int total = 0;
+        for (Band band : work) total += band.orderSize;
+        pruneOrder = new int[total];
+        int offset = 0;
+        for (int round = 0; offset < total; round++) {
+            for (Band band : work) {
+                offset = band.copyRound(round, pruneOrder, offset);
+            }
+        }
+
+        int[] route = survivingPath();
+        for (int cell : route) {
+            path.add(maze.getCell(cell));
+        }
+
+        long endTime = System.nanoTime();
+        timeToSolve = Duration.ofNanos(endTime - startTime);
+        return path;
+    }
+
+    /*
+     * Rows [first, last] of one band, with its own stack of dead ends to fill and an
+     * inbox for dead ends created by neighbouring bands.
+     */
+    private final class Band {
+        private final int first;
+        private final int last;
+        private final ConcurrentLinkedQueue<Integer> inbox = new ConcurrentLinkedQueue<>();
+        private int[] stack = new int[16];
+        private int stackSize;
+        private int[] order = new int[16];
+        private int orderSize;
+        private int[] roundEnds = new int[4];
+        private int rounds;
+
+        Band(int index) {
+            this.first = index * bandRows;
+            this.last = Math.min(rows, first + bandRows) - 1;
+        }
+
+        void seed() {
+            for (int r = first; r <= last; r++) {
+                for (int c = 0; c < cols; c++) {
+                    int open = 0;
+                    for (Direction dir : Direction.values()) {
+                        if (isOpen(r, c, dir)) open++;
+                    }
+                    degree[r * cols + c] = open;
+                }
+            }
+            for (int cell = first * cols; cell < (last + 1) * cols; cell++) {
+                if (degree[cell] <= 1) push(cell);
+            }
+        }
+
+        void prune(Band[] bands) {
+            for (Integer cell; (cell = inbox.poll()) != null; ) {
+                push(cell);
+            }
+
+            while (stackSize > 0) {
+                int cell = stack[--stackSize];
+                if (filled[cell] || cell == start || cell == goal || degreeOf(cell) > 1) continue;
+                filled[cell] = true;
+                record(cell);
+
+                int row = cell / cols;
+                int col = cell % cols;
+                for (Direction dir : Direction.values()) {
+                    if (!isOpen(row, col, dir)) continue;
+                    int newRow = row + dir.getRowOffset();
+                    int neighbor = newRow * cols + col + dir.getColOffset();
+                    if (newRow >= first && newRow <= last) {
+                        if (filled[neighbor]) continue;
+                        if (decrement(neighbor) == 1) push(neighbor);
+                    } else if (decrement(neighbor) == 1) {
+                        bands[newRow / bandRows].inbox.add(neighbor);
+                    }
+                }
+            }
+            endRound();
+        }
+
+        /*
+         * Boundary-row cells can be touched by two bands, so they are updated atomically.
+         */
+        private int decrement(int cell) {
+            int row = cell / cols;
+            if (row % bandRows == 0 || row % bandRows == bandRows - 1 || row == rows - 1) {
+                return (int) DEGREES.getAndAdd(degree, cell, -1) - 1;
+            }
+            return --degree[cell];
+        }
+
+        private int degreeOf(int cell) {
+            return (int) DEGREES.getVolatile(degree, cell);
+        }
+
+        private void push(int cell) {
+            if (stackSize == stack.length) stack = Arrays.copyOf(stack, 2 * stackSize);
+            stack[stackSize++] = cell;
+        }
+
+        private void record(int cell) {
+            if (orderSize == order.length) order = Arrays.copyOf(order, 2 * orderSize);
+            order[orderSize++] = cell;
+        }
+
+        private void endRound() {
+            if (rounds == roundEnds.length) roundEnds = Arrays.copyOf(roundEnds, 2 * rounds);
+            roundEnds[rounds++] = orderSize;
+        }
+
+        /*
+         * Appends the cells this band filled in the given round to out.
+         */
+        int copyRound(int round, int[] out, int offset) {
+            if (round >= rounds) return offset;
+            int from = round == 0 ? 0 : roundEnds[round - 1];
+            int count = roundEnds[round] - from;
+            System.arraycopy(order, from, out, offset, count);
+            return offset + count;
+        }
+    }
+
+    /*
+     * BFS from start to end over cells that were not filled.
+     */
+    private int[] survivingPath() {
+        int n = rows * cols;
+        int[] parent = new int[n];
+        int[] queue = new int[n];
+        Arrays.fill(parent, -2);
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        parent[start] = -1;
+
+        while (head < tail) {
+            int current = queue[head++];
+            if (current == goal) {
+                int length = 0;
+                for (int at = goal; at >= 0; at = parent[at]) length++;
+                int[] route = new int[length];
+                for (int at = goal, i = length - 1; at >= 0; at = parent[at], i--) {
+                    route[i] = at;
+                }
+                return route;
+            }
+            int row = current / cols;
+            int col = current % cols;
+            for (Direction dir : Direction.values()) {
+                if (!isOpen(row, col, dir)) continue;
+                int neighbor = (row + dir.getRowOffset()) * cols + col + dir.getColOffset();
+                if (filled[neighbor] || parent[neighbor] != -2) continue;
+                parent[neighbor] = current;
+                queue[tail++] = neighbor;
+            }
+        }
+        return new int[0];
+    }
+
+    private boolean isOpen(int row, int col, Direction dir) {
+        return maze.isInMaze(row + dir.getRowOffset(), col + dir.getColOffset()) && !maze.hasWall(row, col, dir);
+    }
+
+    /*
+     * Cell indices in the order they were filled.
+     */
+    public int[] getPruneOrder() {
+        return pruneOrder;
+    }
+
+    /*
+     * Filled cells in fill order, as Cells for MazeView animation.
+     */
+    public List<Cell> getVisitedOrder() {
+        List<Cell> visitedOrder = new ArrayList<>(pruneOrder.length);
+        for (int cell : pruneOrder) {
+            visitedOrder.add(maze.getCell(cell));
+        }
+        return visitedOrder;
+    }
+
+    public Duration getTimeToSolve() {
+        return timeToSolve;
+    }
+}
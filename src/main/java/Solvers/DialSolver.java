@@ -0,0 +1,149 @@
+package Solvers;
+
+import MazeGen.Cell;
+import MazeGen.Direction;
+import MazeGen.Maze;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Dial Solver
+ *
+ * Dijkstra's algorithm for mazes with small integer cell costs (Maze.getCost), using
+ * Dial's bucket queue instead of a binary heap.
+ *
+ * Characteristics:
+ * - Stepping into a cell costs that cell's cost, so every queued distance lies within
+ *   MAX_COST of the distance being settled. A ring of MAX_COST + 1 buckets indexed by
+ *   distance % (MAX_COST + 1) therefore holds the whole queue, and push, decrease-key
+ *   and pop are O(1) (buckets are int-linked lists over cell indices). Distances
+ *   and the bucket cursor are longs: a path over 10^8 cells can cost more than 2^31.
+ * - Returns the cheapest path by total cost, which on weighted or braided mazes is not
+ *   necessarily the one with the fewest steps. On an unweighted maze it matches BFS.
+ */
+public class DialSolver {
+
+    private static final int BUCKETS = Maze.MAX_COST + 1;
+    private static final long INF = Long.MAX_VALUE;
+
+    private final Maze maze;
+    private List<Cell> path = new ArrayList<>();
+    private Duration timeToSolve;
+    private int expandedCount;
+    private long pathCost = -1;
+
+    public DialSolver(Maze maze) {
+        this.maze = maze;
+    }
+
+    /**
+     * Runs Dijkstra with a bucket queue from the maze start cell to the maze end cell.
+     *
+     * @return The cheapest path from start to end, or an empty list if no path is found.
+     */
+    public List<Cell> solve() {
+        long startTime = System.nanoTime();
+        path = new ArrayList<>();
+        expandedCount = 0;
+        pathCost = -1;
+
+        int cols = maze.getCols();
+        int n = maze.getRows() * cols;
+        int start = maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol());
+        int goal = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+
+        long[] distance = new long[n];
+        int[] parent = new int[n];
+        int[] next = new int[n];
+        int[] prev = new int[n];
+        boolean[] settled = new boolean[n];
+        int[] head = new int[BUCKETS];
+        Arrays.fill(distance, INF);
+        Arrays.fill(head, -1);
+        Direction[] directions = Direction.values();
+
+        distance[start] = 0;
+        parent[start] = -1;
+        insert(head, next, prev, start, 0);
+        int queued = 1;
+        long cursor = 0;
+
+        while (queued > 0) {
+            while (head[(int) (cursor % BUCKETS)] < 0) cursor++;
+            int current = head[(int) (cursor % BUCKETS)];
+            unlink(head, next, prev, current, cursor);
+            queued--;
+            settled[current] = true;
+            expandedCount++;
+            if (current == goal) break;
+
+            int row = current / cols;
+            int col = current % cols;
+            for (Direction dir : directions) {
+                int newRow = row + dir.getRowOffset();
+                int newCol = col + dir.getColOffset();
+                if (!maze.isInMaze(newRow, newCol) || maze.hasWall(row, col, dir)) continue;
+
+                int neighbor = newRow * cols + newCol;
+                if (settled[neighbor]) continue;
+                long candidate = distance[current] + maze.getCost(newRow, newCol);
+                if (candidate >= distance[neighbor]) continue;
+
+                if (distance[neighbor] == INF) {
+                    queued++;
+                } else {
+                    unlink(head, next, prev, neighbor, distance[neighbor]);
+                }
+                distance[neighbor] = candidate;
+                parent[neighbor] = current;
+                insert(head, next, prev, neighbor, candidate);
+            }
+        }
+
+        if (settled[goal]) {
+            pathCost = distance[goal];
+            for (int at = goal; at >= 0; at = parent[at]) {
+                path.add(maze.getCell(at));
+            }
+            Collections.reverse(path);
+        }
+
+        long endTime = System.nanoTime();
+        timeToSolve = Duration.ofNanos(endTime - startTime);
+        return path;
+    }
+
+    private static void insert(int[] head, int[] next, int[] prev, int cell, long distance) {
+        int bucket = (int) (distance % BUCKETS);
+        next[cell] = head[bucket];
+        prev[cell] = -1;
+        if (head[bucket] >= 0) prev[head[bucket]] = cell;
+        head[bucket] = cell;
+    }
+
+    private static void unlink(int[] head, int[] next, int[] prev, int cell, long distance) {
+        if (prev[cell] >= 0) next[prev[cell]] = next[cell];
+        else head[(int) (distance % BUCKETS)] = next[cell];
+        if (next[cell] >= 0) prev[next[cell]] = prev[cell];
+    }
+
+    /*
+     * Total cost of the last path found (sum of the costs of every cell after the
+     * start), or -1 if no path was found.
+     */
+    public long getPathCost() {
+        return pathCost;
+    }
+
+    public int getExpandedCount() {
+        return expandedCount;
+    }
+
+    public Duration getTimeToSolve() {
+        return timeToSolve;
+    }
+}
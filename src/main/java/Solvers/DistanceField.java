@@ -0,0 +1,177 @@
+package Solvers;
+
+import MazeGen.Cell;
+import MazeGen.Direction;
+import MazeGen.Maze;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Distance Field
+ *
+ * One BFS from a goal cell over the whole maze, after which the shortest path from any
+ * cell to that goal is read off without searching again.
+ *
+ * Layout:
+ * - distance[cell] is the number of steps from cell to the goal, or -1 if the goal
+ *   cannot be reached from it.
+ * - The flow field packs the next step of every cell into 2 bits (the Direction
+ *   ordinal pointing one step closer to the goal), 32 cells per long: cell i lives at
+ *   bits (i % 32) * 2 of word i / 32. The goal and unreachable cells hold 0, so check
+ *   distance() before trusting their entry.
+ *
+ * Following the flow field from a cell descends the distance gradient by exactly one
+ * per step, so pathFrom() is O(path length). forMaze() keeps one field towards the
+ * maze end cell cached on the Maze; it is rebuilt after a wall change or when the end
+ * cell moves.
+ */
+public class DistanceField {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Maze maze;
+    private final int goal;
+    private final int[] distance;
+    private final long[] flow;
+    private final int maxDistance;
+
+    /**
+     * Returns the field towards the maze end cell cached on the maze, building it on
+     * first use.
+     */
+    public static DistanceField forMaze(Maze maze) {
+        Holder holder = maze.getCached(Holder.class, m -> new Holder());
+        int goal = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+        DistanceField field = holder.field;
+        if (field == null || field.goal != goal) {
+            field = new DistanceField(maze, goal);
+            holder.field = field;
+        }
+        return field;
+    }
+
+    /*
+     * Cache slot for forMaze(), so the field can be replaced when the end cell moves.
+     */
+    private static final class Holder {
+        private volatile DistanceField field;
+    }
+
+    public DistanceField(Maze maze, int goal) {
+        this.maze = maze;
+        this.goal = goal;
+        OpenSides sides = OpenSides.forMaze(maze);
+        int n = sides.size();
+        this.distance = new int[n];
+        this.flow = new long[(n + 31) >>> 5];
+        Arrays.fill(distance, -1);
+
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = goal;
+        distance[goal] = 0;
+
+        while (head < tail) {
+            int current = queue[head++];
+            int open = sides.sides(current);
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) == 0) continue;
+                int neighbor = sides.step(current, d);
+                if (distance[neighbor] >= 0) continue;
+                distance[neighbor] = distance[current] + 1;
+                // The neighbour steps back the way we came
+                flow[neighbor >>> 5] |= (long) (d ^ 1) << ((neighbor & 31) << 1);
+                queue[tail++] = neighbor;
+            }
+        }
+        maxDistance = distance[queue[tail - 1]];
+    }
+
+    /*
+     * Steps from cell to the goal, or -1 if the goal cannot be reached.
+     */
+    public int distance(int cell) {
+        return distance[cell];
+    }
+
+    public int distance(Cell cell) {
+        return distance[maze.indexOf(cell.getRow(), cell.getCol())];
+    }
+
+    /*
+     * Direction of the next step from cell towards the goal, or null at the goal itself
+     * and in cells that cannot reach it.
+     */
+    public Direction nextDirection(int cell) {
+        return distance[cell] > 0 ? DIRECTIONS[direction(cell)] : null;
+    }
+
+    /**
+     * Follows the flow field from cell down to the goal.
+     *
+     * @return The cell indices from cell to the goal inclusive, or an empty array if the goal is unreachable.
+     */
+    public int[] pathIndicesFrom(int cell) {
+        int steps = distance[cell];
+        if (steps < 0) return new int[0];
+        int cols = maze.getCols();
+        int[] path = new int[steps + 1];
+        path[0] = cell;
+        for (int i = 1; i <= steps; i++) {
+            cell = switch (direction(cell)) {
+                case 0 -> cell - cols; // UP
+                case 1 -> cell + cols; // DOWN
+                case 2 -> cell - 1;    // LEFT
+                default -> cell + 1;   // RIGHT
+            };
+            path[i] = cell;
+        }
+        return path;
+    }
+
+    /**
+     * Shortest path from a cell to the goal, read off the flow field.
+     *
+     * @return The path from cell to the goal, or an empty list if the goal is unreachable.
+     */
+    public List<Cell> pathFrom(Cell cell) {
+        int[] indices = pathIndicesFrom(maze.indexOf(cell.getRow(), cell.getCol()));
+        List<Cell> path = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            path.add(maze.getCell(index));
+        }
+        return path;
+    }
+
+    private int direction(int cell) {
+        return (int) (flow[cell >>> 5] >>> ((cell & 31) << 1)) & 3;
+    }
+
+    /*
+     * Copy of the packed 2-bit flow field (see the class comment for the layout).
+     */
+    public long[] getFlowField() {
+        return flow.clone();
+    }
+
+    /*
+     * Copy of the per-cell distances to the goal, -1 where unreachable.
+     */
+    public int[] getDistances() {
+        return distance.clone();
+    }
+
+    public int getGoal() {
+        return goal;
+    }
+
+    /*
+     * Largest finite distance in the field, i.e. the eccentricity of the goal.
+     */
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+}
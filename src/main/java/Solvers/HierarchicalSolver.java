@@ -0,0 +1,203 @@
+package Solvers;
+
+import MazeGen.Cell;
+import MazeGen.Direction;
+import MazeGen.Maze;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Hierarchical Solver (HPA*)
+ *
+ * Answers start-to-end queries by searching the small abstract TilePortalGraph first
+ * and only then refining the route into cells, one tile at a time.
+ *
+ * Query outline:
+ * - A BFS inside the start tile links the start cell to that tile's portals, and one
+ *   inside the end tile links its portals to the end cell (and, when both share a
+ *   tile, the start directly to the end).
+ * - A* with the Manhattan heuristic runs over portals: in-tile hops use the cached
+ *   portal distance matrices, border crossings cost 1.
+ * - Each in-tile hop of the resulting route is expanded with a BFS confined to that
+ *   tile; crossings are single steps.
+ *
+ * Every open border crossing is a portal, so the returned path is a true shortest
+ * path. The portal graph is cached on the maze and only dirty tiles are rebuilt after
+ * wall changes. Search buffers are sized to the maze once per solver and reused across
+ * queries through an epoch stamp.
+ */
+public class HierarchicalSolver {
+
+    private final Maze maze;
+    private final TilePortalGraph graph;
+    private List<Cell> path = new ArrayList<>();
+    private Duration timeToSolve;
+    private int expandedCount;
+
+    private final int[] g;
+    private final int[] parent;
+    private final int[] stamp;
+    private final int[] closed;
+    private final IndexedMinHeap open;
+    private final TileSearch fromStart;
+    private final TileSearch toGoal;
+    private final TileSearch refine;
+    private int epoch;
+
+    public HierarchicalSolver(Maze maze) {
+        this(maze, TilePortalGraph.forMaze(maze));
+    }
+
+    public HierarchicalSolver(Maze maze, TilePortalGraph graph) {
+        this.maze = maze;
+        this.graph = graph;
+        int n = maze.getRows() * maze.getCols();
+        this.g = new int[n];
+        this.parent = new int[n];
+        this.stamp = new int[n];
+        this.closed = new int[n];
+        this.open = new IndexedMinHeap(n);
+        this.fromStart = new TileSearch(graph);
+        this.toGoal = new TileSearch(graph);
+        this.refine = new TileSearch(graph);
+    }
+
+    /**
+     * Runs HPA* from the maze start cell to the maze end cell.
+     *
+     * @return The shortest path from start to end, or an empty list if no path is found.
+     */
+    public List<Cell> solve() {
+        int[] indices = solveIndices();
+        path = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            path.add(maze.getCell(index));
+        }
+        return path;
+    }
+
+    /**
+     * Same search as solve(), returning cell indices (row * cols + col).
+     *
+     * @return The cell indices of the shortest path from start to end, or an empty array if no path is found.
+     */
+    public int[] solveIndices() {
+        long startTime = System.nanoTime();
+        expandedCount = 0;
+        graph.refresh();
+        nextEpoch();
+
+        int cols = maze.getCols();
+        int start = maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol());
+        int goal = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+        int startTile = graph.tileOf(start);
+        int goalTile = graph.tileOf(goal);
+        fromStart.run(startTile, start);
+        toGoal.run(goalTile, goal);
+
+        open.clear();
+        relax(start, 0, -1, goal);
+
+        while (!open.isEmpty()) {
+            int current = open.poll();
+            closed[current] = epoch;
+            if (current == goal) break;
+            expandedCount++;
+            int cost = g[current];
+
+            if (current == start) {
+                for (int portal : graph.getPortals(startTile)) {
+                    int d = fromStart.distanceTo(portal);
+                    if (d >= 0) relax(portal, cost + d, current, goal);
+                }
+                if (startTile == goalTile && fromStart.distanceTo(goal) >= 0) {
+                    relax(goal, cost + fromStart.distanceTo(goal), current, goal);
+                }
+            }
+
+            int slot = graph.slotOf(current);
+            if (slot < 0) continue;
+
+            int tile = graph.tileOf(current);
+            int[] portals = graph.getPortals(tile);
+            for (int j = 0; j < portals.length; j++) {
+                int d = graph.distance(tile, slot, j);
+                if (d > 0) relax(portals[j], cost + d, current, goal);
+            }
+
+            int row = current / cols;
+            int col = current % cols;
+            for (Direction dir : Direction.values()) {
+                int newRow = row + dir.getRowOffset();
+                int newCol = col + dir.getColOffset();
+                if (!maze.isInMaze(newRow, newCol) || maze.hasWall(row, col, dir)) continue;
+                int neighbor = newRow * cols + newCol;
+                if (graph.tileOf(neighbor) != tile) relax(neighbor, cost + 1, current, goal);
+            }
+
+            if (tile == goalTile && toGoal.distanceTo(current) >= 0) {
+                relax(goal, cost + toGoal.distanceTo(current), current, goal);
+            }
+        }
+
+        int[] result = closed[goal] == epoch ? refinePath(start, goal) : new int[0];
+        timeToSolve = Duration.ofNanos(System.nanoTime() - startTime);
+        return result;
+    }
+
+    private void relax(int node, int distance, int from, int goal) {
+        if (closed[node] == epoch) return;
+        if (stamp[node] == epoch && distance >= g[node]) return;
+        stamp[node] = epoch;
+        g[node] = distance;
+        parent[node] = from;
+        open.push(node, distance + manhattan(node, goal));
+    }
+
+    /*
+     * Expands the abstract route into cells: crossings are one step, in-tile hops are
+     * re-searched inside their tile.
+     */
+    private int[] refinePath(int start, int goal) {
+        int[] cells = new int[g[goal] + 1];
+        int offset = g[goal];
+        cells[offset] = goal;
+        for (int at = goal; at != start; at = parent[at]) {
+            int from = parent[at];
+            if (graph.tileOf(from) != graph.tileOf(at)) {
+                cells[--offset] = from;
+                continue;
+            }
+            refine.run(graph.tileOf(from), from);
+            int steps = refine.distanceTo(at);
+            refine.appendPath(at, cells, offset - steps + 1);
+            offset -= steps;
+            cells[offset] = from;
+        }
+        return cells;
+    }
+
+    private void nextEpoch() {
+        if (++epoch == 0) {
+            Arrays.fill(stamp, 0);
+            Arrays.fill(closed, 0);
+            epoch = 1;
+        }
+    }
+
+    private int manhattan(int a, int b) {
+        int cols = maze.getCols();
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+
+    public int getExpandedCount() {
+        return expandedCount;
+    }
+
+    public Duration getTimeToSolve() {
+        return timeToSolve;
+    }
+}
@@ -0,0 +1,130 @@
+package Solvers;
+
+import java.util.Arrays;
+
+/*
+ * IndexedMinHeap
+ * Binary min-heap over int ids in [0, capacity) with long keys, backed entirely by
+ * int/long arrays.
+ *
+ * Each id is in the heap at most once; push() on an id that is already present
+ * simply moves it to its new key (decrease- or increase-key). Ties are broken by
+ * smaller id so results are deterministic. Used by the primitive solvers instead of
+ * java.util.PriorityQueue so no node objects are allocated per push.
+ */
+final class IndexedMinHeap {
+
+    private final int[] heap;
+    private final int[] position;
+    private final long[] key;
+    private int size;
+
+    IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.key = new long[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int id) {
+        return position[id] >= 0;
+    }
+
+    long peekKey() {
+        return key[heap[0]];
+    }
+
+    int peek() {
+        return heap[0];
+    }
+
+    void push(int id, long newKey) {
+        if (position[id] < 0) {
+            heap[size] = id;
+            position[id] = size;
+            key[id] = newKey;
+            siftUp(size++);
+        } else {
+            long oldKey = key[id];
+            key[id] = newKey;
+            if (newKey < oldKey) siftUp(position[id]);
+            else siftDown(position[id]);
+        }
+    }
+
+    int poll() {
+        int top = heap[0];
+        removeAt(0);
+        return top;
+    }
+
+    void remove(int id) {
+        if (position[id] >= 0) {
+            removeAt(position[id]);
+        }
+    }
+
+    /*
+     * Empties the heap in O(size) so it can be reused without reallocating.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void removeAt(int index) {
+        int id = heap[index];
+        position[id] = -1;
+        size--;
+        if (index == size) {
+            return;
+        }
+        int last = heap[size];
+        heap[index] = last;
+        position[last] = index;
+        siftUp(index);
+        siftDown(position[last]);
+    }
+
+    private boolean less(int a, int b) {
+        return key[a] < key[b] || (key[a] == key[b] && a < b);
+    }
+
+    private void siftUp(int index) {
+        int id = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(id, heap[parent])) break;
+            heap[index] = heap[parent];
+            position[heap[index]] = index;
+            index = parent;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    private void siftDown(int index) {
+        int id = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) break;
+            if (child + 1 < size && less(heap[child + 1], heap[child])) child++;
+            if (!less(heap[child], id)) break;
+            heap[index] = heap[child];
+            position[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+}
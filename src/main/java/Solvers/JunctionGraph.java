@@ -0,0 +1,268 @@
+package Solvers;
+
+import MazeGen.Maze;
+
+import java.util.Arrays;
+
+/*
+ * JunctionGraph
+ * Corridor-contracted view of a maze: every chain of cells with exactly two open
+ * sides is collapsed into one weighted edge between its end cells.
+ *
+ * Structure:
+ * - Nodes are cells whose number of open sides is not 2 (junctions, dead ends and
+ *   isolated cells). A closed ring made only of corridor cells gets one of its cells
+ *   promoted to a node so it is still represented.
+ * - Every corridor is a "run": the ordered interior cells between two nodes (possibly
+ *   none, when two nodes are adjacent). Run cells live in one int buffer with offsets.
+ * - Edges are stored in CSR form (edgeOffsets per node, then target / length / run per
+ *   directed edge). Each run yields two directed edges; edgeRun holds r for the edge
+ *   that walks the run in stored order and ~r for the reversed one.
+ * - Every interior cell knows its run and its position in it, so queries may start or
+ *   end in the middle of a corridor without rebuilding the graph.
+ *
+ * Built in O(n) from the cached OpenSides snapshot; use forMaze() to share one graph
+ * per maze (dropped automatically when a wall changes).
+ */
+public final class JunctionGraph {
+
+    private final int cols;
+    private final int nodeCount;
+    private final int[] nodeCells;
+    private final int[] cellNode;
+    private final int[] cellRun;
+    private final int[] cellPos;
+
+    private final int runCount;
+    private final int[] runFrom;
+    private final int[] runTo;
+    private final int[] runOffsets;
+    private final int[] runCells;
+
+    private final int[] edgeOffsets;
+    private final int[] edgeTarget;
+    private final int[] edgeLength;
+    private final int[] edgeRun;
+
+    public static JunctionGraph forMaze(Maze maze) {
+        return maze.getCached(JunctionGraph.class, JunctionGraph::new);
+    }
+
+    public JunctionGraph(Maze maze) {
+        OpenSides grid = OpenSides.forMaze(maze);
+        int n = grid.size();
+        this.cols = grid.cols();
+
+        cellNode = new int[n];
+        cellRun = new int[n];
+        cellPos = new int[n];
+        Arrays.fill(cellNode, -1);
+        Arrays.fill(cellRun, -1);
+
+        int[] nodes = new int[n];
+        int count = 0;
+        for (int cell = 0; cell < n; cell++) {
+            if (grid.degree(cell) != 2) {
+                cellNode[cell] = count;
+                nodes[count++] = cell;
+            }
+        }
+
+        Tracer tracer = new Tracer(grid, n);
+        for (int node = 0; node < count; node++) {
+            tracer.traceFrom(nodes[node]);
+        }
+        for (int cell = 0; cell < n; cell++) {
+            if (cellNode[cell] < 0 && cellRun[cell] < 0) {
+                // Corridor ring with no junction on it
+                cellNode[cell] = count;
+                nodes[count++] = cell;
+                tracer.traceFrom(cell);
+            }
+        }
+
+        nodeCount = count;
+        nodeCells = Arrays.copyOf(nodes, count);
+        runCount = tracer.runs;
+        runFrom = Arrays.copyOf(tracer.from, runCount);
+        runTo = Arrays.copyOf(tracer.to, runCount);
+        runOffsets = Arrays.copyOf(tracer.offsets, runCount + 1);
+        runCells = Arrays.copyOf(tracer.cells, runOffsets[runCount]);
+
+        edgeOffsets = new int[nodeCount + 1];
+        for (int r = 0; r < runCount; r++) {
+            edgeOffsets[runFrom[r] + 1]++;
+            edgeOffsets[runTo[r] + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            edgeOffsets[node + 1] += edgeOffsets[node];
+        }
+
+        edgeTarget = new int[2 * runCount];
+        edgeLength = new int[2 * runCount];
+        edgeRun = new int[2 * runCount];
+        int[] fill = Arrays.copyOf(edgeOffsets, nodeCount);
+        for (int r = 0; r < runCount; r++) {
+            int length = getRunLength(r) + 1;
+            int forward = fill[runFrom[r]]++;
+            edgeTarget[forward] = runTo[r];
+            edgeLength[forward] = length;
+            edgeRun[forward] = r;
+            int backward = fill[runTo[r]]++;
+            edgeTarget[backward] = runFrom[r];
+            edgeLength[backward] = length;
+            edgeRun[backward] = ~r;
+        }
+    }
+
+    /*
+     * Walks every corridor leaving a node and records it as a run, labelling the
+     * interior cells on the way.
+     */
+    private final class Tracer {
+        private final OpenSides grid;
+        private final int[] cells;
+        private int[] from = new int[16];
+        private int[] to = new int[16];
+        private int[] offsets = new int[17];
+        private int runs;
+        private int cellCount;
+
+        Tracer(OpenSides grid, int n) {
+            this.grid = grid;
+            this.cells = new int[n];
+        }
+
+        void traceFrom(int origin) {
+            int sides = grid.sides(origin);
+            for (int d = 0; d < 4; d++) {
+                if ((sides & (1 << d)) == 0) continue;
+                int cur = grid.step(origin, d);
+                if (cellNode[cur] >= 0) {
+                    // Adjacent nodes: seen from both sides, keep it once
+                    if (origin < cur) addRun(cellNode[origin], cellNode[cur]);
+                    continue;
+                }
+                if (cellRun[cur] >= 0) continue;
+
+                int prev = origin;
+                int pos = 0;
+                while (cellNode[cur] < 0) {
+                    cellRun[cur] = runs;
+                    cellPos[cur] = pos++;
+                    cells[cellCount++] = cur;
+                    int next = otherSide(cur, prev);
+                    prev = cur;
+                    cur = next;
+                }
+                addRun(cellNode[origin], cellNode[cur]);
+            }
+        }
+
+        private int otherSide(int cell, int prev) {
+            int sides = grid.sides(cell);
+            for (int d = 0; d < 4; d++) {
+                if ((sides & (1 << d)) == 0) continue;
+                int next = grid.step(cell, d);
+                if (next != prev) return next;
+            }
+            throw new IllegalStateException("Corridor cell " + cell + " has no exit");
+        }
+
+        /*
+         * Closes the run whose interior cells were written since the previous run.
+         */
+        private void addRun(int a, int b) {
+            if (runs == from.length) {
+                from = Arrays.copyOf(from, 2 * runs);
+                to = Arrays.copyOf(to, 2 * runs);
+                offsets = Arrays.copyOf(offsets, 2 * runs + 1);
+            }
+            from[runs] = a;
+            to[runs] = b;
+            offsets[++runs] = cellCount;
+        }
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getNodeCell(int node) {
+        return nodeCells[node];
+    }
+
+    /*
+     * Node id of a cell, or -1 if the cell is inside a corridor.
+     */
+    public int nodeOf(int cell) {
+        return cellNode[cell];
+    }
+
+    /*
+     * Run containing a corridor cell, or -1 if the cell is a node.
+     */
+    public int runOf(int cell) {
+        return cellRun[cell];
+    }
+
+    /*
+     * Position of a corridor cell within its run, counted from getRunFrom().
+     */
+    public int positionInRun(int cell) {
+        return cellPos[cell];
+    }
+
+    public int getRunFrom(int run) {
+        return runFrom[run];
+    }
+
+    public int getRunTo(int run) {
+        return runTo[run];
+    }
+
+    /*
+     * Number of interior cells of a run (0 for two adjacent nodes).
+     */
+    public int getRunLength(int run) {
+        return runOffsets[run + 1] - runOffsets[run];
+    }
+
+    public int getRunCell(int run, int position) {
+        return runCells[runOffsets[run] + position];
+    }
+
+    public int getEdgeStart(int node) {
+        return edgeOffsets[node];
+    }
+
+    public int getEdgeEnd(int node) {
+        return edgeOffsets[node + 1];
+    }
+
+    public int getEdgeTarget(int edge) {
+        return edgeTarget[edge];
+    }
+
+    /*
+     * Steps along a directed edge: interior cells + 1.
+     */
+    public int getEdgeLength(int edge) {
+        return edgeLength[edge];
+    }
+
+    /*
+     * Run walked by a directed edge: r if it follows the run's stored order, ~r if reversed.
+     */
+    public int getEdgeRun(int edge) {
+        return edgeRun[edge];
+    }
+}
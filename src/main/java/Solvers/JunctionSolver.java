@@ -0,0 +1,231 @@
+package Solvers;
+
+import MazeGen.Cell;
+import MazeGen.Maze;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Junction Solver
+ *
+ * Shortest-path search on the corridor-contracted JunctionGraph instead of the grid:
+ * whole corridors are relaxed as single weighted edges and only the final route is
+ * expanded back to cells.
+ *
+ * Modes:
+ * - DIJKSTRA orders nodes by distance from the start.
+ * - ASTAR adds the Manhattan distance to the end cell, which is admissible and
+ *   consistent here because a corridor is never shorter than the straight-line grid
+ *   distance between its ends.
+ *
+ * Start and end cells inside a corridor are handled without touching the cached
+ * graph: the start seeds both ends of its run with the partial corridor lengths, the
+ * end is reached through a virtual target node linked from both ends of its run, and a
+ * start and end in the same run also consider the direct walk between them.
+ */
+public class JunctionSolver {
+
+    public enum Mode { DIJKSTRA, ASTAR }
+
+    private final Maze maze;
+    private final Mode mode;
+    private List<Cell> path = new ArrayList<>();
+    private Duration timeToSolve;
+    private int expandedCount;
+
+    public JunctionSolver(Maze maze) {
+        this(maze, Mode.ASTAR);
+    }
+
+    public JunctionSolver(Maze maze, Mode mode) {
+        this.maze = maze;
+        this.mode = mode;
+    }
+
+    /**
+     * Finds a shortest path from the maze start cell to the maze end cell on the junction graph.
+     *
+     * @return The shortest path from start to end, or an empty list if no path is found.
+     */
+    public List<Cell> solve() {
+        int[] indices = solveIndices();
+        path = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            path.add(maze.getCell(index));
+        }
+        return path;
+    }
+
+    /**
+     * Same search as solve(), returning cell indices (row * cols + col).
+     *
+     * @return The cell indices of the shortest path from start to end, or an empty array if no path is found.
+     */
+    public int[] solveIndices() {
+        long startTime = System.nanoTime();
+        expandedCount = 0;
+        JunctionGraph graph = JunctionGraph.forMaze(maze);
+        int start = maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol());
+        int goal = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+
+        int nodes = graph.getNodeCount();
+        int target = nodes; // virtual node standing for the end cell
+        int[] g = new int[nodes + 1];
+        int[] parentNode = new int[nodes + 1];
+        int[] parentEdge = new int[nodes + 1];
+        boolean[] closed = new boolean[nodes + 1];
+        Arrays.fill(g, Integer.MAX_VALUE);
+        IndexedMinHeap open = new IndexedMinHeap(nodes + 1);
+
+        int startRun = graph.runOf(start);
+        int goalRun = graph.runOf(goal);
+        if (startRun < 0) {
+            relax(graph, open, g, parentNode, parentEdge, graph.nodeOf(start), 0, -1, -1, goal);
+        } else {
+            int pos = graph.positionInRun(start);
+            relax(graph, open, g, parentNode, parentEdge, graph.getRunFrom(startRun), pos + 1, -1, -1, goal);
+            relax(graph, open, g, parentNode, parentEdge, graph.getRunTo(startRun), graph.getRunLength(startRun) - pos, -1, -1, goal);
+        }
+
+        // Start and end in one corridor: walking straight there is a candidate too
+        int direct = Integer.MAX_VALUE;
+        if (start == goal) {
+            direct = 0;
+        } else if (startRun >= 0 && startRun == goalRun) {
+            direct = Math.abs(graph.positionInRun(start) - graph.positionInRun(goal));
+        }
+
+        int goalNode = goalRun < 0 ? graph.nodeOf(goal) : target;
+        while (!open.isEmpty() && open.peekKey() < direct) {
+            int current = open.poll();
+            closed[current] = true;
+            expandedCount++;
+            if (current == goalNode) break;
+
+            if (goalRun >= 0) {
+                int pos = graph.positionInRun(goal);
+                if (current == graph.getRunFrom(goalRun)) {
+                    relax(graph, open, g, parentNode, parentEdge, target, g[current] + pos + 1, current, -1, goal);
+                }
+                if (current == graph.getRunTo(goalRun)) {
+                    relax(graph, open, g, parentNode, parentEdge, target, g[current] + graph.getRunLength(goalRun) - pos, current, -1, goal);
+                }
+            }
+
+            for (int e = graph.getEdgeStart(current); e < graph.getEdgeEnd(current); e++) {
+                int next = graph.getEdgeTarget(e);
+                if (closed[next]) continue;
+                relax(graph, open, g, parentNode, parentEdge, next, g[current] + graph.getEdgeLength(e), current, e, goal);
+            }
+        }
+
+        int[] result;
+        if (direct != Integer.MAX_VALUE && (g[goalNode] == Integer.MAX_VALUE || direct <= g[goalNode])) {
+            result = walkRun(graph, startRun, graph.positionInRun(start), graph.positionInRun(goal), start);
+        } else if (g[goalNode] != Integer.MAX_VALUE) {
+            result = expand(graph, g, parentNode, parentEdge, goalNode, start, goal, startRun, goalRun);
+        } else {
+            result = new int[0];
+        }
+
+        timeToSolve = Duration.ofNanos(System.nanoTime() - startTime);
+        return result;
+    }
+
+    private void relax(JunctionGraph graph, IndexedMinHeap open, int[] g, int[] parentNode, int[] parentEdge,
+                       int node, int distance, int from, int edge, int goal) {
+        if (distance >= g[node]) return;
+        g[node] = distance;
+        parentNode[node] = from;
+        parentEdge[node] = edge;
+        long h = 0;
+        if (mode == Mode.ASTAR && node < graph.getNodeCount()) {
+            h = manhattan(graph.getNodeCell(node), goal);
+        }
+        open.push(node, distance + h);
+    }
+
+    /*
+     * Rebuilds the cell path: start segment, one run per graph edge, end segment.
+     */
+    private int[] expand(JunctionGraph graph, int[] g, int[] parentNode, int[] parentEdge, int goalNode,
+                         int start, int goal, int startRun, int goalRun) {
+        int[] chain = new int[graph.getNodeCount() + 1];
+        int length = 0;
+        for (int at = goalNode; at >= 0; at = parentNode[at]) {
+            chain[length++] = at;
+        }
+
+        int[] cells = new int[g[goalNode] + 1];
+        int size = 0;
+        int first = chain[length - 1];
+        if (startRun >= 0) {
+            // Walk from the start cell to the end of its run where the search began
+            int pos = graph.positionInRun(start);
+            boolean towardFrom = first == graph.getRunFrom(startRun)
+                    && (first != graph.getRunTo(startRun) || pos + 1 <= graph.getRunLength(startRun) - pos);
+            int end = towardFrom ? -1 : graph.getRunLength(startRun);
+            for (int p = pos; p != end; p += end < pos ? -1 : 1) {
+                cells[size++] = graph.getRunCell(startRun, p);
+            }
+        }
+        cells[size++] = graph.getNodeCell(first);
+
+        for (int i = length - 2; i >= 0; i--) {
+            int node = chain[i];
+            if (node == goalNode && goalRun >= 0) {
+                // Virtual end node: walk into the goal's run from the node just left
+                int pos = graph.positionInRun(goal);
+                boolean fromStart = chain[i + 1] == graph.getRunFrom(goalRun)
+                        && (chain[i + 1] != graph.getRunTo(goalRun) || pos + 1 <= graph.getRunLength(goalRun) - pos);
+                if (fromStart) {
+                    for (int p = 0; p <= pos; p++) cells[size++] = graph.getRunCell(goalRun, p);
+                } else {
+                    for (int p = graph.getRunLength(goalRun) - 1; p >= pos; p--) cells[size++] = graph.getRunCell(goalRun, p);
+                }
+                continue;
+            }
+
+            int edge = parentEdge[node];
+            if (edge >= 0) {
+                int r = graph.getEdgeRun(edge);
+                if (r >= 0) {
+                    for (int p = 0; p < graph.getRunLength(r); p++) cells[size++] = graph.getRunCell(r, p);
+                } else {
+                    r = ~r;
+                    for (int p = graph.getRunLength(r) - 1; p >= 0; p--) cells[size++] = graph.getRunCell(r, p);
+                }
+            }
+            cells[size++] = graph.getNodeCell(node);
+        }
+        return cells;
+    }
+
+    private int[] walkRun(JunctionGraph graph, int run, int from, int to, int start) {
+        if (run < 0) {
+            return new int[]{start};
+        }
+        int[] cells = new int[Math.abs(to - from) + 1];
+        int step = to >= from ? 1 : -1;
+        for (int i = 0, p = from; i < cells.length; i++, p += step) {
+            cells[i] = graph.getRunCell(run, p);
+        }
+        return cells;
+    }
+
+    private int manhattan(int a, int b) {
+        int cols = maze.getCols();
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+
+    public int getExpandedCount() {
+        return expandedCount;
+    }
+
+    public Duration getTimeToSolve() {
+        return timeToSolve;
+    }
+}
@@ -0,0 +1,201 @@
+package Solvers;
+
+import MazeGen.Cell;
+import MazeGen.Direction;
+import MazeGen.Maze;
+import MazeGen.WallChangeListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * LPA* Solver
+ *
+ * Lifelong Planning A*: keeps its search tree between calls and, after walls are
+ * added or removed, repairs only the part of it the edits made inconsistent instead
+ * of searching again from scratch.
+ *
+ * How it works:
+ * - Every cell has g (current distance estimate) and rhs (one-step lookahead:
+ *   min over open neighbours of g + 1). Cells with g != rhs are queued by the key
+ *   [min(g, rhs) + h, min(g, rhs)], with h the Manhattan distance to the end.
+ * - The solver registers itself on the maze with addWallChangeListener. Each event
+ *   is queued; the next solve() updates rhs of the two cells on either side of the
+ *   wall and lets the queue settle, so the work done is proportional to the region
+ *   whose distances actually changed.
+ * - If the maze start or end cell changes between calls, the state is reset and the
+ *   next solve() is a full search.
+ *
+ * Call detach() when done to unregister from the maze. Not thread-safe: edits and
+ * solves must come from one thread.
+ */
+public class LPAStar implements WallChangeListener {
+
+    private static final int INF = Integer.MAX_VALUE / 2;
+
+    private final Maze maze;
+    private final int cols;
+    private final int[] g;
+    private final int[] rhs;
+    private final IndexedMinHeap open;
+    private int[] pending = new int[16];
+    private int pendingCount;
+    private int start = -1;
+    private int goal = -1;
+    private List<Cell> path = new ArrayList<>();
+    private Duration timeToSolve;
+    private int expandedCount;
+
+    public LPAStar(Maze maze) {
+        this.maze = maze;
+        this.cols = maze.getCols();
+        int n = maze.getRows() * cols;
+        this.g = new int[n];
+        this.rhs = new int[n];
+        this.open = new IndexedMinHeap(n);
+        maze.addWallChangeListener(this);
+    }
+
+    /*
+     * Stops listening for wall changes on the maze.
+     */
+    public void detach() {
+        maze.removeWallChangeListener(this);
+    }
+
+    @Override
+    public void wallChanged(int row, int col, Direction direction, boolean wall) {
+        int newRow = row + direction.getRowOffset();
+        int newCol = col + direction.getColOffset();
+        if (!maze.isInMaze(newRow, newCol)) return;
+        if (pendingCount + 2 > pending.length) {
+            pending = Arrays.copyOf(pending, 2 * pending.length);
+        }
+        pending[pendingCount++] = maze.indexOf(row, col);
+        pending[pendingCount++] = maze.indexOf(newRow, newCol);
+    }
+
+    /**
+     * Brings the shortest path from the maze start cell to the maze end cell up to date
+     * with all wall changes since the last call.
+     *
+     * @return The shortest path from start to end, or an empty list if no path is found.
+     */
+    public List<Cell> solve() {
+        long startTime = System.nanoTime();
+        expandedCount = 0;
+        path = new ArrayList<>();
+
+        int newStart = maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol());
+        int newGoal = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+        if (newStart != start || newGoal != goal) {
+            reset(newStart, newGoal);
+        } else {
+            for (int i = 0; i < pendingCount; i++) {
+                updateVertex(pending[i]);
+            }
+        }
+        pendingCount = 0;
+
+        computeShortestPath();
+
+        if (g[goal] < INF) {
+            int current = goal;
+            path.add(maze.getCell(current));
+            while (current != start) {
+                current = bestPredecessor(current);
+                path.add(maze.getCell(current));
+            }
+            Collections.reverse(path);
+        }
+
+        long endTime = System.nanoTime();
+        timeToSolve = Duration.ofNanos(endTime - startTime);
+        return path;
+    }
+
+    private void reset(int newStart, int newGoal) {
+        start = newStart;
+        goal = newGoal;
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+        open.clear();
+        rhs[start] = 0;
+        open.push(start, key(start));
+    }
+
+    private void computeShortestPath() {
+        while (!open.isEmpty() && (open.peekKey() < key(goal) || rhs[goal] != g[goal])) {
+            int u = open.poll();
+            expandedCount++;
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+            } else {
+                g[u] = INF;
+                updateVertex(u);
+            }
+            int row = u / cols;
+            int col = u % cols;
+            for (Direction dir : Direction.values()) {
+                if (isOpen(row, col, dir)) {
+                    updateVertex((row + dir.getRowOffset()) * cols + col + dir.getColOffset());
+                }
+            }
+        }
+    }
+
+    private void updateVertex(int u) {
+        if (u != start) {
+            int best = bestPredecessor(u);
+            rhs[u] = best < 0 ? INF : Math.min(g[best] + 1, INF);
+        }
+        if (g[u] != rhs[u]) {
+            open.push(u, key(u));
+        } else {
+            open.remove(u);
+        }
+    }
+
+    /*
+     * Open neighbour with the smallest g, or -1 if every side is walled.
+     */
+    private int bestPredecessor(int u) {
+        int row = u / cols;
+        int col = u % cols;
+        int best = -1;
+        for (Direction dir : Direction.values()) {
+            if (!isOpen(row, col, dir)) continue;
+            int neighbor = (row + dir.getRowOffset()) * cols + col + dir.getColOffset();
+            if (best < 0 || g[neighbor] < g[best]) best = neighbor;
+        }
+        return best;
+    }
+
+    private boolean isOpen(int row, int col, Direction dir) {
+        return maze.isInMaze(row + dir.getRowOffset(), col + dir.getColOffset()) && !maze.hasWall(row, col, dir);
+    }
+
+    /*
+     * Packs [min(g, rhs) + h, min(g, rhs)] into one long so it orders lexicographically.
+     */
+    private long key(int u) {
+        long k2 = Math.min(g[u], rhs[u]);
+        long k1 = Math.min(k2 + manhattan(u, goal), INF);
+        return k1 << 32 | k2;
+    }
+
+    private int manhattan(int a, int b) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+
+    public int getExpandedCount() {
+        return expandedCount;
+    }
+
+    public Duration getTimeToSolve() {
+        return timeToSolve;
+    }
+}
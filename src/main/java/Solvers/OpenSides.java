@@ -0,0 +1,81 @@
+package Solvers;
+
+import MazeGen.Direction;
+import MazeGen.Maze;
+
+/*
+ * OpenSides
+ * Read-only snapshot of a maze as one byte per cell, where bit d is set if the cell
+ * can step in Direction.values()[d] (the side has no wall and the neighbour is inside
+ * the maze).
+ *
+ * Lets solvers that run many searches over one maze skip the per-step isInMaze and
+ * hasWall calls. The snapshot is cached on the Maze through forMaze(), so it is built
+ * once and dropped automatically when a wall changes. Neighbour indices are derived
+ * with step(), using the same row * cols + col layout as Maze.indexOf().
+ */
+final class OpenSides {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final int cols;
+    private final byte[] open;
+
+    static OpenSides forMaze(Maze maze) {
+        return maze.getCached(OpenSides.class, OpenSides::new);
+    }
+
+    OpenSides(Maze maze) {
+        int rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.open = new byte[rows * cols];
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int bits = 0;
+                for (Direction dir : DIRECTIONS) {
+                    if (maze.isInMaze(r + dir.getRowOffset(), c + dir.getColOffset()) && !maze.hasWall(r, c, dir)) {
+                        bits |= 1 << dir.ordinal();
+                    }
+                }
+                open[r * cols + c] = (byte) bits;
+            }
+        }
+    }
+
+    int size() {
+        return open.length;
+    }
+
+    int cols() {
+        return cols;
+    }
+
+    /*
+     * Bitmask of open sides of a cell, indexed by Direction ordinal.
+     */
+    int sides(int cell) {
+        return open[cell];
+    }
+
+    boolean isOpen(int cell, Direction dir) {
+        return (open[cell] & (1 << dir.ordinal())) != 0;
+    }
+
+    int degree(int cell) {
+        return Integer.bitCount(open[cell]);
+    }
+
+    /*
+     * Index of the neighbour in direction d (a Direction ordinal). Only meaningful
+     * when that side is open.
+     */
+    int step(int cell, int d) {
+        return switch (d) {
+            case 0 -> cell - cols; // UP
+            case 1 -> cell + cols; // DOWN
+            case 2 -> cell - 1;    // LEFT
+            default -> cell + 1;   // RIGHT
+        };
+    }
+}
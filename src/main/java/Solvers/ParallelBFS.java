@@ -0,0 +1,162 @@
+package Solvers;
+
+import MazeGen.Cell;
+import MazeGen.Direction;
+import MazeGen.Maze;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/*
+ * Parallel BFS Solver
+ *
+ * Level-synchronous Breadth-First Search for very large mazes.
+ *
+ * Characteristics:
+ * - Each frontier level is split into fixed-size chunks that are expanded in
+ *   parallel on a ForkJoinPool. A cell is claimed by atomically setting its bit in a
+ *   shared visited bitset; only the claiming thread writes its entry in the shared
+ *   int parent array and adds it to the next frontier.
+ * - Levels smaller than SERIAL_THRESHOLD are expanded on the calling thread, since
+ *   the fork/join overhead would outweigh the work (maze frontiers are often tiny).
+ * - Like BFS it returns a shortest path; which of several equally short paths is
+ *   returned may vary between runs. Per-level wall-clock times are exposed through
+ *   getLevelTimes().
+ */
+public class ParallelBFS {
+
+    private static final int CHUNK = 512;
+    private static final int SERIAL_THRESHOLD = 4 * CHUNK;
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Maze maze;
+    private final ForkJoinPool pool;
+    private List<Cell> path = new ArrayList<>();
+    private Duration timeToSolve;
+    private final List<Duration> levelTimes = new ArrayList<>();
+
+    public ParallelBFS(Maze maze) {
+        this(maze, ForkJoinPool.commonPool());
+    }
+
+    public ParallelBFS(Maze maze, ForkJoinPool pool) {
+        this.maze = maze;
+        this.pool = pool;
+    }
+
+    /**
+     * Runs level-synchronous parallel BFS from the maze start cell to the maze end cell.
+     *
+     * @return A shortest path from start to end, or an empty list if no path is found.
+     */
+    public List<Cell> solve() {
+        long startTime = System.nanoTime();
+        path = new ArrayList<>();
+        levelTimes.clear();
+
+        int cols = maze.getCols();
+        int n = maze.getRows() * cols;
+        int start = maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol());
+        int goal = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+
+        long[] visited = new long[(n + 63) >>> 6];
+        int[] parent = new int[n];
+        int[] frontier = new int[]{start};
+        int frontierSize = 1;
+        visited[start >>> 6] |= 1L << start;
+        parent[start] = -1;
+
+        while (frontierSize > 0 && !isSet(visited, goal)) {
+            long levelStart = System.nanoTime();
+            int[] levelFrontier = frontier;
+            int size = frontierSize;
+
+            if (size < SERIAL_THRESHOLD) {
+                int[] next = new int[3 * size + 1];
+                frontierSize = expand(levelFrontier, 0, size, next, visited, parent);
+                frontier = next;
+            } else {
+                int chunks = (size + CHUNK - 1) / CHUNK;
+                int[][] chunkNext = new int[chunks][];
+                int[] chunkSize = new int[chunks];
+                pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(c -> {
+                    int from = c * CHUNK;
+                    int to = Math.min(size, from + CHUNK);
+                    chunkNext[c] = new int[3 * (to - from) + 1];
+                    chunkSize[c] = expand(levelFrontier, from, to, chunkNext[c], visited, parent);
+                })).join();
+
+                int total = 0;
+                for (int c = 0; c < chunks; c++) total += chunkSize[c];
+                frontier = new int[total];
+                int offset = 0;
+                for (int c = 0; c < chunks; c++) {
+                    System.arraycopy(chunkNext[c], 0, frontier, offset, chunkSize[c]);
+                    offset += chunkSize[c];
+                }
+                frontierSize = total;
+            }
+
+            levelTimes.add(Duration.ofNanos(System.nanoTime() - levelStart));
+        }
+
+        if (isSet(visited, goal)) {
+            for (int at = goal; at >= 0; at = parent[at]) {
+                path.add(maze.getCell(at));
+            }
+            Collections.reverse(path);
+        }
+
+        long endTime = System.nanoTime();
+        timeToSolve = Duration.ofNanos(endTime - startTime);
+        return path;
+    }
+
+    /*
+     * Expands frontier[from, to) into next, claiming each newly reached cell in the
+     * shared visited bitset. Returns the number of cells written to next.
+     */
+    private int expand(int[] frontier, int from, int to, int[] next, long[] visited, int[] parent) {
+        int cols = maze.getCols();
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int current = frontier[i];
+            int row = current / cols;
+            int col = current % cols;
+            for (Direction dir : DIRECTIONS) {
+                int newRow = row + dir.getRowOffset();
+                int newCol = col + dir.getColOffset();
+                if (!maze.isInMaze(newRow, newCol) || maze.hasWall(row, col, dir)) continue;
+
+                int neighbor = newRow * cols + newCol;
+                long bit = 1L << neighbor;
+                if ((visited[neighbor >>> 6] & bit) != 0) continue;
+                long previous = (long) WORDS.getAndBitwiseOr(visited, neighbor >>> 6, bit);
+                if ((previous & bit) != 0) continue;
+
+                parent[neighbor] = current;
+                next[count++] = neighbor;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public List<Duration> getLevelTimes() {
+        return levelTimes;
+    }
+
+    public Duration getTimeToSolve() {
+        return timeToSolve;
+    }
+}
@@ -0,0 +1,121 @@
+package Solvers;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/*
+ * SolverWorkspace
+ * Per-thread pool of search buffers, so solving many mazes in a row does not allocate
+ * fresh visited, queue and parent arrays for every solver instance.
+ *
+ * Buffers:
+ * - Two int stamp arrays (seen and done). A cell counts as marked when its stamp
+ *   equals the current epoch, so begin() clears both in O(1) by bumping the epoch;
+ *   they are only wiped when the epoch wraps around.
+ * - An int queue (also used as a stack), int parent and cost arrays, a byte cursor
+ *   array and an IndexedMinHeap, each with one slot per cell.
+ *
+ * Usage: acquire() borrows a workspace from the calling thread's pool (creating one
+ * if the pool is empty), sized to at least the requested cell count; release() hands
+ * it back. Buffers only grow, so each workspace ends up sized to the largest maze it
+ * has served. Nested borrows on one thread get distinct workspaces. A workspace must
+ * be released on the thread that acquired it and not used after release.
+ */
+final class SolverWorkspace {
+
+    private static final ThreadLocal<ArrayDeque<SolverWorkspace>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private int capacity;
+    private int[] seen = new int[0];
+    private int[] done = new int[0];
+    private int[] queue = new int[0];
+    private int[] parent = new int[0];
+    private int[] cost = new int[0];
+    private byte[] cursor = new byte[0];
+    private IndexedMinHeap heap = new IndexedMinHeap(0);
+    private int epoch;
+
+    private SolverWorkspace() {
+    }
+
+    /*
+     * Borrows a workspace for cellCount cells with every mark cleared.
+     */
+    static SolverWorkspace acquire(int cellCount) {
+        SolverWorkspace workspace = POOL.get().poll();
+        if (workspace == null) workspace = new SolverWorkspace();
+        workspace.begin(cellCount);
+        return workspace;
+    }
+
+    /*
+     * Returns this workspace to the calling thread's pool.
+     */
+    void release() {
+        heap.clear();
+        POOL.get().push(this);
+    }
+
+    /*
+     * Grows the buffers to cellCount if needed and clears every mark.
+     */
+    void begin(int cellCount) {
+        if (cellCount > capacity) {
+            capacity = cellCount;
+            seen = new int[cellCount];
+            done = new int[cellCount];
+            queue = new int[cellCount];
+            parent = new int[cellCount];
+            cost = new int[cellCount];
+            cursor = new byte[cellCount];
+            heap = new IndexedMinHeap(cellCount);
+            epoch = 0;
+        }
+        if (++epoch == 0) {
+            Arrays.fill(seen, 0);
+            Arrays.fill(done, 0);
+            epoch = 1;
+        }
+        heap.clear();
+    }
+
+    boolean isSeen(int cell) {
+        return seen[cell] == epoch;
+    }
+
+    void see(int cell) {
+        seen[cell] = epoch;
+    }
+
+    boolean isDone(int cell) {
+        return done[cell] == epoch;
+    }
+
+    void finish(int cell) {
+        done[cell] = epoch;
+    }
+
+    int[] queue() {
+        return queue;
+    }
+
+    int[] parent() {
+        return parent;
+    }
+
+    int[] cost() {
+        return cost;
+    }
+
+    byte[] cursor() {
+        return cursor;
+    }
+
+    IndexedMinHeap heap() {
+        return heap;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
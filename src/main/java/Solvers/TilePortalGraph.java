@@ -0,0 +1,217 @@
+package Solvers;
+
+import MazeGen.Direction;
+import MazeGen.Maze;
+import MazeGen.WallChangeListener;
+
+import java.util.Arrays;
+
+/*
+ * TilePortalGraph
+ * Abstract graph used by HierarchicalSolver (HPA*): the maze is cut into square
+ * tiles, and the only nodes are "portal" cells that have an open side leading into a
+ * neighbouring tile.
+ *
+ * Structure:
+ * - For every tile: its portal cells and a k x k matrix of shortest distances between
+ *   them, measured by a BFS that stays inside the tile (-1 when unreachable).
+ * - Two portals on either side of an open tile border are joined by an edge of length
+ *   1, looked up from the maze on demand.
+ * - Because every open border crossing is a portal, the abstract shortest path has
+ *   the same length as the true shortest path.
+ *
+ * Invalidation:
+ * - The graph is cached on the Maze (forMaze) and listens for wall changes. A change
+ *   only marks the tile(s) holding the wall's two cells as dirty; dirty tiles are
+ *   rebuilt on their own the next time the graph is used (refresh), so one edit costs
+ *   O(tileSize^2 * portals) rather than a full rebuild.
+ * - invalidateTile / invalidateAll mark tiles dirty by hand, e.g. after editing Cell
+ *   walls directly.
+ *
+ * Queries may run concurrently once refreshed, but wall changes must not overlap queries.
+ */
+public final class TilePortalGraph implements WallChangeListener {
+
+    public static final int DEFAULT_TILE_SIZE = 16;
+
+    private final Maze maze;
+    private final int tileSize;
+    private final int tileRows;
+    private final int tileCols;
+    private final int[][] portals;
+    private final int[][] distances;
+    private final int[] portalSlot;
+    private final boolean[] dirty;
+    private int dirtyCount;
+    private long tileBuilds;
+
+    public static TilePortalGraph forMaze(Maze maze) {
+        return maze.getCached(TilePortalGraph.class, m -> new TilePortalGraph(m, DEFAULT_TILE_SIZE));
+    }
+
+    public TilePortalGraph(Maze maze, int tileSize) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        }
+        this.maze = maze;
+        this.tileSize = tileSize;
+        this.tileRows = (maze.getRows() + tileSize - 1) / tileSize;
+        this.tileCols = (maze.getCols() + tileSize - 1) / tileSize;
+
+        int tiles = tileRows * tileCols;
+        this.portals = new int[tiles][0];
+        this.distances = new int[tiles][0];
+        this.portalSlot = new int[maze.getRows() * maze.getCols()];
+        this.dirty = new boolean[tiles];
+        Arrays.fill(portalSlot, -1);
+        invalidateAll();
+        refresh();
+    }
+
+    @Override
+    public synchronized void wallChanged(int row, int col, Direction direction, boolean wall) {
+        invalidateCell(row, col);
+        int newRow = row + direction.getRowOffset();
+        int newCol = col + direction.getColOffset();
+        if (maze.isInMaze(newRow, newCol)) {
+            invalidateCell(newRow, newCol);
+        }
+    }
+
+    public synchronized void invalidateTile(int tileRow, int tileCol) {
+        int tile = tileRow * tileCols + tileCol;
+        if (!dirty[tile]) {
+            dirty[tile] = true;
+            dirtyCount++;
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        Arrays.fill(dirty, true);
+        dirtyCount = dirty.length;
+    }
+
+    /*
+     * Rebuilds every dirty tile. Called by the solver before each query.
+     */
+    public synchronized void refresh() {
+        if (dirtyCount == 0) return;
+        TileSearch search = new TileSearch(this);
+        for (int tile = 0; tile < dirty.length; tile++) {
+            if (dirty[tile]) {
+                rebuildTile(tile, search);
+                dirty[tile] = false;
+            }
+        }
+        dirtyCount = 0;
+    }
+
+    private void invalidateCell(int row, int col) {
+        invalidateTile(row / tileSize, col / tileSize);
+    }
+
+    private void rebuildTile(int tile, TileSearch search) {
+        for (int cell : portals[tile]) {
+            portalSlot[cell] = -1;
+        }
+
+        int top = getTop(tile);
+        int left = getLeft(tile);
+        int bottom = top + getHeight(tile) - 1;
+        int right = left + getWidth(tile) - 1;
+        int cols = maze.getCols();
+
+        int[] found = new int[2 * (bottom - top + right - left) + 4];
+        int count = 0;
+        for (int r = top; r <= bottom; r++) {
+            for (int c = left; c <= right; c++) {
+                if (r != top && r != bottom && c != left && c != right) continue;
+                if (leavesTile(r, c, top, left, bottom, right)) {
+                    portalSlot[r * cols + c] = count;
+                    found[count++] = r * cols + c;
+                }
+            }
+        }
+
+        int[] tilePortals = Arrays.copyOf(found, count);
+        int[] matrix = new int[count * count];
+        for (int i = 0; i < count; i++) {
+            search.run(tile, tilePortals[i]);
+            for (int j = 0; j < count; j++) {
+                matrix[i * count + j] = search.distanceTo(tilePortals[j]);
+            }
+        }
+
+        portals[tile] = tilePortals;
+        distances[tile] = matrix;
+        tileBuilds++;
+    }
+
+    private boolean leavesTile(int r, int c, int top, int left, int bottom, int right) {
+        for (Direction dir : Direction.values()) {
+            int nr = r + dir.getRowOffset();
+            int nc = c + dir.getColOffset();
+            if (nr >= top && nr <= bottom && nc >= left && nc <= right) continue;
+            if (maze.isInMaze(nr, nc) && !maze.hasWall(r, c, dir)) return true;
+        }
+        return false;
+    }
+
+    Maze getMaze() {
+        return maze;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public int getTileCount() {
+        return tileRows * tileCols;
+    }
+
+    /*
+     * Number of tile rebuilds since construction, including the initial build.
+     */
+    public long getTileBuilds() {
+        return tileBuilds;
+    }
+
+    int tileOf(int cell) {
+        int cols = maze.getCols();
+        return (cell / cols) / tileSize * tileCols + (cell % cols) / tileSize;
+    }
+
+    int getTop(int tile) {
+        return tile / tileCols * tileSize;
+    }
+
+    int getLeft(int tile) {
+        return tile % tileCols * tileSize;
+    }
+
+    int getHeight(int tile) {
+        return Math.min(tileSize, maze.getRows() - getTop(tile));
+    }
+
+    int getWidth(int tile) {
+        return Math.min(tileSize, maze.getCols() - getLeft(tile));
+    }
+
+    int[] getPortals(int tile) {
+        return portals[tile];
+    }
+
+    /*
+     * Position of a portal cell in its tile's portal list, or -1 if it is not a portal.
+     */
+    int slotOf(int cell) {
+        return portalSlot[cell];
+    }
+
+    /*
+     * In-tile distance between the i-th and j-th portal of a tile, or -1.
+     */
+    int distance(int tile, int i, int j) {
+        return distances[tile][i * portals[tile].length + j];
+    }
+}
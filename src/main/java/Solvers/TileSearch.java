@@ -0,0 +1,104 @@
+package Solvers;
+
+import MazeGen.Direction;
+import MazeGen.Maze;
+
+import java.util.Arrays;
+
+/*
+ * TileSearch
+ * BFS confined to one tile of a TilePortalGraph, with buffers sized to a single tile
+ * and reused between runs.
+ *
+ * Cells are addressed by their maze index; internally they map to a local index
+ * (row - top) * width + (col - left). Used both to build the per-tile portal distance
+ * matrices and to refine HPA* routes back into cells.
+ */
+final class TileSearch {
+
+    private final TilePortalGraph graph;
+    private final Maze maze;
+    private final int[] distance;
+    private final int[] parent;
+    private final int[] queue;
+    private int top;
+    private int left;
+    private int height;
+    private int width;
+
+    TileSearch(TilePortalGraph graph) {
+        this.graph = graph;
+        this.maze = graph.getMaze();
+        int area = graph.getTileSize() * graph.getTileSize();
+        this.distance = new int[area];
+        this.parent = new int[area];
+        this.queue = new int[area];
+    }
+
+    /*
+     * Runs BFS from source over the cells of tile, never leaving the tile.
+     */
+    void run(int tile, int source) {
+        this.top = graph.getTop(tile);
+        this.left = graph.getLeft(tile);
+        this.height = graph.getHeight(tile);
+        this.width = graph.getWidth(tile);
+        Arrays.fill(distance, 0, height * width, -1);
+
+        int cols = maze.getCols();
+        int start = local(source);
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        distance[start] = 0;
+        parent[start] = -1;
+
+        while (head < tail) {
+            int current = queue[head++];
+            int row = top + current / width;
+            int col = left + current % width;
+            for (Direction dir : Direction.values()) {
+                int newRow = row + dir.getRowOffset();
+                int newCol = col + dir.getColOffset();
+                if (newRow < top || newRow >= top + height || newCol < left || newCol >= left + width) continue;
+                if (maze.hasWall(row, col, dir)) continue;
+
+                int neighbor = local(newRow * cols + newCol);
+                if (distance[neighbor] >= 0) continue;
+                distance[neighbor] = distance[current] + 1;
+                parent[neighbor] = current;
+                queue[tail++] = neighbor;
+            }
+        }
+    }
+
+    /*
+     * Steps from the last source to cell inside the tile, or -1 if unreachable.
+     */
+    int distanceTo(int cell) {
+        return distance[local(cell)];
+    }
+
+    /*
+     * Appends the cells after the source up to and including cell to out at offset,
+     * returning the new offset. cell must be reachable.
+     */
+    int appendPath(int cell, int[] out, int offset) {
+        int at = local(cell);
+        int steps = distance[at];
+        for (int i = offset + steps - 1; i >= offset; i--) {
+            out[i] = global(at);
+            at = parent[at];
+        }
+        return offset + steps;
+    }
+
+    private int local(int cell) {
+        int cols = maze.getCols();
+        return (cell / cols - top) * width + (cell % cols - left);
+    }
+
+    private int global(int local) {
+        return maze.indexOf(top + local / width, left + local % width);
+    }
+}
@@ -0,0 +1,251 @@
+package Solvers;
+
+import MazeGen.Cell;
+import MazeGen.Direction;
+import MazeGen.Maze;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Tree Distance Oracle
+ *
+ * Precomputed index for perfect mazes (spanning trees) that answers "how far is A
+ * from B" without searching, and materializes the unique path between two cells.
+ *
+ * Structure:
+ * - The maze is rooted at cell 0 and walked once with an explicit-stack DFS, giving
+ *   an int parent array, an int depth array and an Euler tour (2n - 1 entries).
+ * - The lowest common ancestor of a and b is the shallowest node between their first
+ *   occurrences in the Euler tour. That range-minimum query is answered in O(1) with
+ *   64-entry blocks: a sparse table over block minima, plus one long mask per tour
+ *   position describing the monotonic stack inside its block.
+ * - distance(a, b) = depth[a] + depth[b] - 2 * depth[lca]; paths are built by climbing
+ *   parent links, in O(path length).
+ *
+ * Building is O(n) time, plus O((n / 64) log n) for the block sparse table. Use
+ * forMaze() to share one oracle per maze: it is cached on the Maze and rebuilt after
+ * any wall change. Construction throws IllegalStateException if the maze has a loop
+ * or unreachable cells, since the answers would no longer be shortest paths.
+ */
+public class TreeDistanceOracle {
+
+    private static final int BLOCK = 64;
+
+    private final Maze maze;
+    private final int[] parent;
+    private final int[] depth;
+    private final int[] euler;
+    private final int[] first;
+    private final long[] blockMasks;
+    private final int[][] blockTable;
+
+    /**
+     * Returns the oracle cached on the maze, building it on first use.
+     *
+     * @throws IllegalStateException if the maze is not a tree.
+     */
+    public static TreeDistanceOracle forMaze(Maze maze) {
+        return maze.getCached(TreeDistanceOracle.class, TreeDistanceOracle::new);
+    }
+
+    public TreeDistanceOracle(Maze maze) {
+        this.maze = maze;
+        int cols = maze.getCols();
+        int n = maze.getRows() * cols;
+
+        parent = new int[n];
+        depth = new int[n];
+        first = new int[n];
+        euler = new int[2 * n - 1];
+        Arrays.fill(depth, -1);
+
+        int[] stack = new int[n];
+        byte[] cursor = new byte[n];
+        Direction[] directions = Direction.values();
+        int top = 0;
+        int tourLength = 0;
+        int reached = 1;
+
+        stack[0] = 0;
+        parent[0] = -1;
+        depth[0] = 0;
+        euler[tourLength++] = 0;
+
+        while (top >= 0) {
+            int current = stack[top];
+            if (cursor[current] == directions.length) {
+                top--;
+                if (top >= 0) {
+                    euler[tourLength++] = stack[top];
+                }
+                continue;
+            }
+
+            Direction dir = directions[cursor[current]++];
+            int row = current / cols;
+            int col = current % cols;
+            int newRow = row + dir.getRowOffset();
+            int newCol = col + dir.getColOffset();
+            if (!maze.isInMaze(newRow, newCol) || maze.hasWall(row, col, dir)) continue;
+
+            int neighbor = newRow * cols + newCol;
+            if (neighbor == parent[current]) continue;
+            if (depth[neighbor] >= 0) {
+                throw new IllegalStateException("Maze is not a tree: loop through cell (" + newRow + ", " + newCol + ")");
+            }
+
+            parent[neighbor] = current;
+            depth[neighbor] = depth[current] + 1;
+            first[neighbor] = tourLength;
+            euler[tourLength++] = neighbor;
+            stack[++top] = neighbor;
+            reached++;
+        }
+
+        if (reached != n) {
+            throw new IllegalStateException("Maze is not a tree: " + (n - reached) + " cells are unreachable");
+        }
+
+        blockMasks = buildBlockMasks();
+        blockTable = buildBlockTable();
+    }
+
+    /**
+     * Number of steps on the unique path between two cells given by index (row * cols + col).
+     */
+    public int distance(int from, int to) {
+        return depth[from] + depth[to] - 2 * depth[lowestCommonAncestor(from, to)];
+    }
+
+    public int distance(Cell from, Cell to) {
+        return distance(indexOf(from), indexOf(to));
+    }
+
+    /**
+     * Deepest cell that lies on the root paths of both cells.
+     */
+    public int lowestCommonAncestor(int a, int b) {
+        int l = Math.min(first[a], first[b]);
+        int r = Math.max(first[a], first[b]);
+        return euler[minPosition(l, r)];
+    }
+
+    /**
+     * Cell indices on the path between two cells, both ends included.
+     */
+    public int[] pathIndices(int from, int to) {
+        int lca = lowestCommonAncestor(from, to);
+        int up = depth[from] - depth[lca];
+        int down = depth[to] - depth[lca];
+        int[] path = new int[up + down + 1];
+
+        int at = from;
+        for (int i = 0; i <= up; i++) {
+            path[i] = at;
+            at = parent[at];
+        }
+        at = to;
+        for (int i = path.length - 1; i > up; i--) {
+            path[i] = at;
+            at = parent[at];
+        }
+        return path;
+    }
+
+    public List<Cell> path(Cell from, Cell to) {
+        int[] indices = pathIndices(indexOf(from), indexOf(to));
+        List<Cell> path = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            path.add(maze.getCell(index));
+        }
+        return path;
+    }
+
+    /*
+     * Parent of a cell in the tree rooted at cell 0, or -1 for the root.
+     */
+    public int getParent(int cell) {
+        return parent[cell];
+    }
+
+    public int getDepth(int cell) {
+        return depth[cell];
+    }
+
+    private int indexOf(Cell cell) {
+        return maze.indexOf(cell.getRow(), cell.getCol());
+    }
+
+    /*
+     * Position of the shallowest Euler entry in [l, r].
+     */
+    private int minPosition(int l, int r) {
+        int lb = l / BLOCK;
+        int rb = r / BLOCK;
+        if (lb == rb) {
+            return inBlockMin(l, r);
+        }
+
+        int best = shallower(inBlockMin(l, lb * BLOCK + BLOCK - 1), inBlockMin(rb * BLOCK, r));
+        if (lb + 1 < rb) {
+            int level = 31 - Integer.numberOfLeadingZeros(rb - lb - 1);
+            best = shallower(best, shallower(blockTable[level][lb + 1], blockTable[level][rb - (1 << level)]));
+        }
+        return best;
+    }
+
+    /*
+     * Bit j of blockMasks[i] is set if position blockStart + j is still on the
+     * increasing-depth stack after scanning the block up to i. The minimum of [l, i]
+     * is then the lowest set bit at or above l.
+     */
+    private int inBlockMin(int l, int r) {
+        int blockStart = r - r % BLOCK;
+        long mask = blockMasks[r] & (-1L << (l - blockStart));
+        return blockStart + Long.numberOfTrailingZeros(mask);
+    }
+
+    private long[] buildBlockMasks() {
+        long[] masks = new long[euler.length];
+        int[] stack = new int[BLOCK];
+        for (int blockStart = 0; blockStart < euler.length; blockStart += BLOCK) {
+            int size = 0;
+            long mask = 0;
+            int blockEnd = Math.min(euler.length, blockStart + BLOCK);
+            for (int i = blockStart; i < blockEnd; i++) {
+                while (size > 0 && depth[euler[stack[size - 1]]] >= depth[euler[i]]) {
+                    mask &= ~(1L << (stack[--size] - blockStart));
+                }
+                stack[size++] = i;
+                mask |= 1L << (i - blockStart);
+                masks[i] = mask;
+            }
+        }
+        return masks;
+    }
+
+    private int[][] buildBlockTable() {
+        int blocks = (euler.length + BLOCK - 1) / BLOCK;
+        int levels = 32 - Integer.numberOfLeadingZeros(blocks);
+        int[][] table = new int[levels][];
+
+        table[0] = new int[blocks];
+        for (int b = 0; b < blocks; b++) {
+            table[0][b] = inBlockMin(b * BLOCK, Math.min(euler.length, b * BLOCK + BLOCK) - 1);
+        }
+        for (int level = 1; level < levels; level++) {
+            int span = 1 << level;
+            table[level] = new int[blocks - span + 1];
+            for (int b = 0; b + span <= blocks; b++) {
+                table[level][b] = shallower(table[level - 1][b], table[level - 1][b + span / 2]);
+            }
+        }
+        return table;
+    }
+
+    private int shallower(int a, int b) {
+        return depth[euler[a]] <= depth[euler[b]] ? a : b;
+    }
+}
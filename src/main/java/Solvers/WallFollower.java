@@ -0,0 +1,227 @@
+package Solvers;
+
+import MazeGen.Cell;
+import MazeGen.Direction;
+import MazeGen.Maze;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Wall Follower
+ *
+ * Keeps one hand on the wall and walks until it reaches the end cell, preferring the
+ * hand side, then forward, then the other side, then turning back.
+ *
+ * Characteristics:
+ * - The walk is deterministic given (cell, facing), so arriving in a cell with a facing
+ *   it has had there before means it will go round the same loop forever. Each cell
+ *   keeps four bits, one per facing, packed 16 cells per long; the first repeat stops
+ *   the walk and isLoopDetected() reports it. This happens on braided or edited mazes
+ *   when the end is not on the wall the hand is following.
+ * - The traversal is stored run-length encoded as (direction, count) pairs, one int
+ *   each (count << 2 | direction ordinal), instead of a Cell and a Direction per step.
+ *   expandPath() and expandFacing() rebuild the per-step lists when they are needed.
+ * - Does not guarantee the shortest path; always reaches the end in a perfect maze.
+ */
+public class WallFollower {
+
+    public enum Hand { LEFT, RIGHT }
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    // Direction ordinal turned a quarter clockwise / counter-clockwise (UP, DOWN, LEFT, RIGHT)
+    private static final int[] CLOCKWISE = {3, 2, 0, 1};
+    private static final int[] COUNTER_CLOCKWISE = {2, 3, 1, 0};
+
+    private final Maze maze;
+    private final Hand hand;
+    private int[] runs = new int[16];
+    private int runCount;
+    private long stepCount;
+    private boolean reachedEnd;
+    private boolean loopDetected;
+    private int startCell;
+    private Direction startFacing;
+    private Duration timeToSolve;
+
+    public WallFollower(Maze maze) {
+        this(maze, Hand.RIGHT);
+    }
+
+    public WallFollower(Maze maze, Hand hand) {
+        this.maze = maze;
+        this.hand = hand;
+    }
+
+    /**
+     * Follows the wall from the maze start cell, recording the traversal as runs.
+     *
+     * @return true if the end cell was reached, false if the walk started looping or the start is walled in.
+     */
+    public boolean follow() {
+        long startTime = System.nanoTime();
+        runCount = 0;
+        stepCount = 0;
+        reachedEnd = false;
+        loopDetected = false;
+
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        Cell start = maze.getStartCell();
+        startCell = maze.indexOf(start.getRow(), start.getCol());
+        startFacing = findStartingDirection(start);
+        int goal = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+        long[] seen = new long[(rows * cols + 15) >>> 4];
+        int[] turns = hand == Hand.RIGHT ? CLOCKWISE : COUNTER_CLOCKWISE;
+
+        int current = startCell;
+        int facing = startFacing.ordinal();
+        while (current != goal) {
+            long bit = 1L << ((current & 15) << 2 | facing);
+            if ((seen[current >>> 4] & bit) != 0) {
+                loopDetected = true;
+                break;
+            }
+            seen[current >>> 4] |= bit;
+
+            // Hand side, forward, other side, back
+            int side = turns[facing];
+            int[] priorities = { side, facing, side ^ 1, facing ^ 1 };
+            int row = current / cols;
+            int col = current % cols;
+            int moved = -1;
+            for (int d : priorities) {
+                Direction dir = DIRECTIONS[d];
+                if (maze.isInMaze(row + dir.getRowOffset(), col + dir.getColOffset()) && !maze.hasWall(row, col, dir)) {
+                    moved = d;
+                    break;
+                }
+            }
+            if (moved < 0) break;
+
+            current = (row + DIRECTIONS[moved].getRowOffset()) * cols + col + DIRECTIONS[moved].getColOffset();
+            facing = moved;
+            record(moved);
+        }
+        reachedEnd = current == goal;
+
+        long endTime = System.nanoTime();
+        timeToSolve = Duration.ofNanos(endTime - startTime);
+        return reachedEnd;
+    }
+
+    /**
+     * Follows the wall and expands the traversal into cells.
+     *
+     * @return The cells walked from start to end, or an empty list if the end was not reached.
+     */
+    public List<Cell> solve() {
+        return follow() ? expandPath() : new ArrayList<>();
+    }
+
+    /*
+     * Determines the initial facing from where the start cell opens onto the maze
+     * boundary, so the walk begins heading into the maze.
+     */
+    private Direction findStartingDirection(Cell startCell) {
+        if (!startCell.hasWall(Direction.UP) && startCell.getRow() == 0) {
+            return Direction.DOWN;
+        }
+        if (!startCell.hasWall(Direction.DOWN) && startCell.getRow() == maze.getRows() - 1) {
+            return Direction.UP;
+        }
+        if (!startCell.hasWall(Direction.LEFT) && startCell.getCol() == 0) {
+            return Direction.RIGHT;
+        }
+        if (!startCell.hasWall(Direction.RIGHT) && startCell.getCol() == maze.getCols() - 1) {
+            return Direction.LEFT;
+        }
+        return Direction.RIGHT;
+    }
+
+    private void record(int direction) {
+        stepCount++;
+        if (runCount > 0 && (runs[runCount - 1] & 3) == direction) {
+            runs[runCount - 1] += 4;
+            return;
+        }
+        if (runCount == runs.length) runs = Arrays.copyOf(runs, 2 * runCount);
+        runs[runCount++] = 1 << 2 | direction;
+    }
+
+    /*
+     * The last walk as cells, start included, whether or not it reached the end.
+     */
+    public List<Cell> expandPath() {
+        List<Cell> path = new ArrayList<>((int) Math.min(stepCount + 1, Integer.MAX_VALUE));
+        int cols = maze.getCols();
+        int current = startCell;
+        path.add(maze.getCell(current));
+        for (int i = 0; i < runCount; i++) {
+            Direction dir = getRunDirection(i);
+            int delta = dir.getRowOffset() * cols + dir.getColOffset();
+            for (int step = getRunLength(i); step > 0; step--) {
+                current += delta;
+                path.add(maze.getCell(current));
+            }
+        }
+        return path;
+    }
+
+    /*
+     * The facing in every cell of expandPath(): the starting facing, then the direction
+     * of each step.
+     */
+    public List<Direction> expandFacing() {
+        List<Direction> facing = new ArrayList<>((int) Math.min(stepCount + 1, Integer.MAX_VALUE));
+        facing.add(startFacing);
+        for (int i = 0; i < runCount; i++) {
+            Direction dir = getRunDirection(i);
+            for (int step = getRunLength(i); step > 0; step--) {
+                facing.add(dir);
+            }
+        }
+        return facing;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    public Direction getRunDirection(int run) {
+        return DIRECTIONS[runs[run] & 3];
+    }
+
+    public int getRunLength(int run) {
+        return runs[run] >>> 2;
+    }
+
+    /*
+     * Copy of the encoded runs, count << 2 | direction ordinal each.
+     */
+    public int[] getRuns() {
+        return Arrays.copyOf(runs, runCount);
+    }
+
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    public boolean hasReachedEnd() {
+        return reachedEnd;
+    }
+
+    public boolean isLoopDetected() {
+        return loopDetected;
+    }
+
+    public Hand getHand() {
+        return hand;
+    }
+
+    public Duration getTimeToSolve() {
+        return timeToSolve;
+    }
+}
@@ -0,0 +1,85 @@
+package Solvers;
+
+import MazeGen.Direction;
+import MazeGen.Maze;
+import MazeGen.WallChangeListener;
+
+/*
+ * WallMasks
+ * The maze's passable edges packed into two bitmasks per row of 64-cell long words:
+ * openRight (bit c set if cell c can step to c + 1) and openDown (bit c set if row r
+ * can step to row r + 1). Bits past the last column stay clear, so shifted masks never
+ * leave the grid.
+ *
+ * Cached on the Maze through forMaze(), so the per-cell wall scan runs once per maze
+ * rather than once per solve. It listens for wall changes and flips the single bit an
+ * edit affects instead of being rebuilt. Wall changes must not overlap a solve that
+ * reads the masks.
+ */
+final class WallMasks implements WallChangeListener {
+
+    final int rows;
+    final int cols;
+    final int wordsPerRow;
+    final long[] openRight;
+    final long[] openDown;
+
+    static WallMasks forMaze(Maze maze) {
+        return maze.getCached(WallMasks.class, WallMasks::new);
+    }
+
+    WallMasks(Maze maze) {
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.wordsPerRow = (cols + 63) >>> 6;
+        this.openRight = new long[rows * wordsPerRow];
+        this.openDown = new long[rows * wordsPerRow];
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (c + 1 < cols && !maze.hasWall(r, c, Direction.RIGHT)) set(openRight, r, c, true);
+                if (r + 1 < rows && !maze.hasWall(r, c, Direction.DOWN)) set(openDown, r, c, true);
+            }
+        }
+    }
+
+    @Override
+    public void wallChanged(int row, int col, Direction direction, boolean wall) {
+        switch (direction) {
+            case RIGHT -> {
+                if (col + 1 < cols) set(openRight, row, col, !wall);
+            }
+            case LEFT -> {
+                if (col > 0) set(openRight, row, col - 1, !wall);
+            }
+            case DOWN -> {
+                if (row + 1 < rows) set(openDown, row, col, !wall);
+            }
+            case UP -> {
+                if (row > 0) set(openDown, row - 1, col, !wall);
+            }
+        }
+    }
+
+    boolean isOpen(int row, int col, Direction dir) {
+        return switch (dir) {
+            case RIGHT -> bit(openRight, row, col);
+            case LEFT -> col > 0 && bit(openRight, row, col - 1);
+            case DOWN -> bit(openDown, row, col);
+            case UP -> row > 0 && bit(openDown, row - 1, col);
+        };
+    }
+
+    private boolean bit(long[] mask, int row, int col) {
+        return (mask[row * wordsPerRow + (col >>> 6)] & (1L << col)) != 0;
+    }
+
+    private void set(long[] mask, int row, int col, boolean open) {
+        int word = row * wordsPerRow + (col >>> 6);
+        if (open) {
+            mask[word] |= 1L << col;
+        } else {
+            mask[word] &= ~(1L << col);
+        }
+    }
+}
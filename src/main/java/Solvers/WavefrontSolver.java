@@ -0,0 +1,222 @@
+package Solvers;
+
+import MazeGen.Cell;
+import MazeGen.Direction;
+import MazeGen.Maze;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Wavefront Solver
+ *
+ * Bit-parallel Breadth-First Search: every row of the maze is a bitmask of 64-cell
+ * long words, and the wavefront is advanced a whole word at a time with shifts and
+ * masks instead of checking each cell's walls.
+ *
+ * Characteristics:
+ * - Passable edges come from the maze's cached WallMasks: two masks per row, openRight
+ *   (bit c set if c can step to c + 1) and openDown (bit c set if row r can step to
+ *   row r + 1), built once per maze and patched on wall changes. Moving the frontier
+ *   is then (f & openRight) << 1 to the right, (f >>> 1) & openRight to the left, and
+ *   f & openDown up or down, with carries across word boundaries.
+ * - Only active words are visited: each level keeps a list of the (row, word) pairs that
+ *   gained cells, so sparse frontiers in long corridors cost about as much as plain BFS.
+ *   A BFS wavefront on a 4-connected grid rarely holds more than a couple of cells per
+ *   row and word, so in practice this runs close to the primitive BFS engine rather
+ *   than 64x faster; the win is that no per-cell wall lookups happen during the flood.
+ * - Produces the distance field from the start cell (every reached cell gets its BFS
+ *   level) and recovers a shortest path by stepping down the field from the end cell.
+ *   Stops as soon as the end cell is reached.
+ * - The distance field and the per-level word arrays belong to the solver and are
+ *   reused by the next solve(). Only the words the previous solve reached are reset,
+ *   so a query costs time in proportion to the area it floods, not to the whole grid.
+ */
+public class WavefrontSolver {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Maze maze;
+    private List<Cell> path = new ArrayList<>();
+    private Duration timeToSolve;
+
+    private WallMasks masks;
+    private int[] distanceField;
+    private long[] reached;
+    private long[] frontier;
+    private long[] next;
+    private int[] active;
+    private int[] touched;
+    // Words with any reached bit, so the next solve can reset just those
+    private int[] reachedWords;
+    private int reachedWordCount;
+
+    public WavefrontSolver(Maze maze) {
+        this.maze = maze;
+    }
+
+    /**
+     * Floods the maze from the start cell one BFS level at a time until the end cell is reached.
+     *
+     * @return A shortest path from start to end, or an empty list if no path is found.
+     */
+    public List<Cell> solve() {
+        long startTime = System.nanoTime();
+        path = new ArrayList<>();
+        masks = WallMasks.forMaze(maze);
+        reset();
+
+        int rows = masks.rows;
+        int cols = masks.cols;
+        int wordsPerRow = masks.wordsPerRow;
+        long[] openRight = masks.openRight;
+        long[] openDown = masks.openDown;
+        int start = maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol());
+        int goal = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+        int goalWord = goal / cols * wordsPerRow + (goal % cols >>> 6);
+        long goalBit = 1L << (goal % cols);
+
+        int startWord = start / cols * wordsPerRow + (start % cols >>> 6);
+        reached[startWord] = frontier[startWord] = 1L << (start % cols);
+        reachedWords[reachedWordCount++] = startWord;
+        distanceField[start] = 0;
+        active[0] = startWord;
+        int activeCount = 1;
+
+        for (int level = 1; activeCount > 0 && (reached[goalWord] & goalBit) == 0; level++) {
+            int touchedCount = 0;
+
+            for (int i = 0; i < activeCount; i++) {
+                int word = active[i];
+                long f = frontier[word];
+                frontier[word] = 0;
+                int row = word / wordsPerRow;
+                int w = word - row * wordsPerRow;
+
+                long right = f & openRight[word];
+                touchedCount = spread(next, touched, touchedCount, word, right << 1);
+                if (w + 1 < wordsPerRow) {
+                    touchedCount = spread(next, touched, touchedCount, word + 1, right >>> 63);
+                }
+
+                touchedCount = spread(next, touched, touchedCount, word, (f >>> 1) & openRight[word]);
+                if (w > 0) {
+                    touchedCount = spread(next, touched, touchedCount, word - 1, (f << 63) & openRight[word - 1]);
+                }
+
+                if (row + 1 < rows) {
+                    touchedCount = spread(next, touched, touchedCount, word + wordsPerRow, f & openDown[word]);
+                }
+                if (row > 0) {
+                    touchedCount = spread(next, touched, touchedCount, word - wordsPerRow, f & openDown[word - wordsPerRow]);
+                }
+            }
+
+            activeCount = 0;
+            for (int i = 0; i < touchedCount; i++) {
+                int word = touched[i];
+                long gained = next[word] & ~reached[word];
+                next[word] = 0;
+                if (gained == 0) continue;
+
+                if (reached[word] == 0) reachedWords[reachedWordCount++] = word;
+                reached[word] |= gained;
+                frontier[word] = gained;
+                active[activeCount++] = word;
+
+                int base = word / wordsPerRow * cols + (word % wordsPerRow << 6);
+                for (long bits = gained; bits != 0; bits &= bits - 1) {
+                    distanceField[base + Long.numberOfTrailingZeros(bits)] = level;
+                }
+            }
+        }
+
+        if (distanceField[goal] >= 0) {
+            int current = goal;
+            path.add(maze.getCell(current));
+            while (current != start) {
+                current = stepDown(current);
+                path.add(maze.getCell(current));
+            }
+            Collections.reverse(path);
+        }
+
+        long endTime = System.nanoTime();
+        timeToSolve = Duration.ofNanos(endTime - startTime);
+        return path;
+    }
+
+    /*
+     * Allocates the scratch arrays on first use, otherwise clears the words and
+     * distances the previous solve wrote. next is already clear: every level resets
+     * the words it touched.
+     */
+    private void reset() {
+        int words = masks.rows * masks.wordsPerRow;
+        if (reached == null) {
+            distanceField = new int[masks.rows * masks.cols];
+            Arrays.fill(distanceField, -1);
+            reached = new long[words];
+            frontier = new long[words];
+            next = new long[words];
+            active = new int[words];
+            touched = new int[words];
+            reachedWords = new int[words];
+            reachedWordCount = 0;
+            return;
+        }
+        for (int i = 0; i < reachedWordCount; i++) {
+            int word = reachedWords[i];
+            int base = word / masks.wordsPerRow * masks.cols + (word % masks.wordsPerRow << 6);
+            for (long bits = reached[word]; bits != 0; bits &= bits - 1) {
+                distanceField[base + Long.numberOfTrailingZeros(bits)] = -1;
+            }
+            reached[word] = 0;
+            frontier[word] = 0;
+        }
+        reachedWordCount = 0;
+    }
+
+    /*
+     * ORs bits into next[word], recording the word the first time it becomes non-zero
+     * during this level.
+     */
+    private static int spread(long[] next, int[] touched, int touchedCount, int word, long bits) {
+        if (bits == 0) return touchedCount;
+        if (next[word] == 0) touched[touchedCount++] = word;
+        next[word] |= bits;
+        return touchedCount;
+    }
+
+    /*
+     * Returns an open neighbour of cell that is one level closer to the start.
+     */
+    private int stepDown(int cell) {
+        int cols = masks.cols;
+        int row = cell / cols;
+        int col = cell % cols;
+        int target = distanceField[cell] - 1;
+        for (Direction dir : DIRECTIONS) {
+            if (!masks.isOpen(row, col, dir)) continue;
+            int neighbor = (row + dir.getRowOffset()) * cols + col + dir.getColOffset();
+            if (distanceField[neighbor] == target) return neighbor;
+        }
+        throw new IllegalStateException("Distance field is inconsistent at cell " + cell);
+    }
+
+    /*
+     * BFS level of every cell reached by the last solve(), or -1 for cells the
+     * wavefront never reached before the end cell was found. The array is reused and
+     * overwritten by the next solve().
+     */
+    public int[] getDistanceField() {
+        return distanceField;
+    }
+
+    public Duration getTimeToSolve() {
+        return timeToSolve;
+    }
+}
@@ -0,0 +1,316 @@
+package Solvers;
+
+import MazeGen.Cell;
+import MazeGen.Maze;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Waypoint Solver
+ *
+ * Shortest route from the maze start cell to the maze end cell that visits every
+ * checkpoint on the way, in whichever order is cheapest.
+ *
+ * Query outline:
+ * - Pairwise distances between start, checkpoints and end. On a perfect maze they
+ *   come from the cached TreeDistanceOracle in O(1) each; otherwise one BFS per
+ *   checkpoint and one for the end builds a DistanceField towards it, which also
+ *   yields the leg paths later.
+ * - The visiting order is solved as an open path with fixed endpoints. Up to
+ *   HELD_KARP_LIMIT checkpoints Held-Karp finds the optimal order in O(2^K * K^2);
+ *   beyond that a nearest-neighbour tour is improved with 2-opt and Or-opt moves
+ *   until neither finds a shorter route, which is usually but not always optimal.
+ * - The legs are stitched into one path, sharing the cell where two legs meet.
+ *
+ * Checkpoints may repeat or coincide with the start or end. If any of them cannot be
+ * reached the result is empty.
+ */
+public class WaypointSolver {
+
+    static final int HELD_KARP_LIMIT = 12;
+    private static final long INF = Long.MAX_VALUE / 4;
+
+    private final Maze maze;
+    private final int[] checkpoints;
+    private List<Cell> path = new ArrayList<>();
+    private Duration timeToSolve;
+    private int[] order = new int[0];
+    private long tourLength = -1;
+
+    public WaypointSolver(Maze maze, List<Cell> checkpoints) {
+        this.maze = maze;
+        this.checkpoints = new int[checkpoints.size()];
+        for (int i = 0; i < this.checkpoints.length; i++) {
+            Cell cell = checkpoints.get(i);
+            this.checkpoints[i] = maze.indexOf(cell.getRow(), cell.getCol());
+        }
+    }
+
+    public WaypointSolver(Maze maze, int[] checkpoints) {
+        this.maze = maze;
+        this.checkpoints = checkpoints.clone();
+    }
+
+    /**
+     * Finds a shortest route from start to end through every checkpoint.
+     *
+     * @return The stitched path from start to end, or an empty list if some checkpoint or the end is unreachable.
+     */
+    public List<Cell> solve() {
+        int[] indices = solveIndices();
+        path = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            path.add(maze.getCell(index));
+        }
+        return path;
+    }
+
+    /**
+     * Same search as solve(), returning cell indices (row * cols + col).
+     *
+     * @return The cell indices of the route, or an empty array if some checkpoint or the end is unreachable.
+     */
+    public int[] solveIndices() {
+        long startTime = System.nanoTime();
+        int k = checkpoints.length;
+        // Node 0 is the start, 1..k the checkpoints, k + 1 the end
+        int[] nodes = new int[k + 2];
+        nodes[0] = maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol());
+        System.arraycopy(checkpoints, 0, nodes, 1, k);
+        nodes[k + 1] = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+
+        TreeDistanceOracle oracle = treeOracle();
+        DistanceField[] fields = oracle == null ? new DistanceField[k + 2] : null;
+        long[][] dist = new long[k + 2][k + 2];
+        for (int b = 1; b < k + 2; b++) {
+            if (fields != null) fields[b] = new DistanceField(maze, nodes[b]);
+            for (int a = 0; a < k + 2; a++) {
+                int d = fields != null ? fields[b].distance(nodes[a]) : oracle.distance(nodes[a], nodes[b]);
+                dist[a][b] = d < 0 ? INF : d;
+            }
+        }
+
+        // The maze is undirected, so every node must be reachable from the start. Held-Karp
+        // would otherwise rebuild a route that never visits the unreachable checkpoint.
+        boolean reachable = true;
+        for (int b = 1; b < k + 2; b++) {
+            if (dist[0][b] >= INF) reachable = false;
+        }
+        int[] route = !reachable ? null : k <= HELD_KARP_LIMIT ? heldKarp(dist, k) : localSearch(dist, k);
+        long length = route == null ? INF : routeLength(dist, route);
+
+        int[] result;
+        if (length >= INF) {
+            order = new int[0];
+            tourLength = -1;
+            result = new int[0];
+        } else {
+            order = new int[k];
+            for (int i = 0; i < k; i++) {
+                order[i] = route[i + 1] - 1;
+            }
+            tourLength = length;
+            result = new int[(int) length + 1];
+            result[0] = nodes[0];
+            int offset = 1;
+            for (int i = 0; i + 1 < route.length; i++) {
+                int from = nodes[route[i]];
+                int to = nodes[route[i + 1]];
+                int[] leg = fields != null ? fields[route[i + 1]].pathIndicesFrom(from) : oracle.pathIndices(from, to);
+                System.arraycopy(leg, 1, result, offset, leg.length - 1);
+                offset += leg.length - 1;
+            }
+        }
+
+        timeToSolve = Duration.ofNanos(System.nanoTime() - startTime);
+        return result;
+    }
+
+    /*
+     * The cached tree oracle if the maze is perfect, otherwise null.
+     */
+    private TreeDistanceOracle treeOracle() {
+        OpenSides sides = OpenSides.forMaze(maze);
+        long edges = 0;
+        for (int cell = 0; cell < sides.size(); cell++) {
+            edges += sides.degree(cell);
+        }
+        if (edges / 2 != sides.size() - 1) return null;
+        try {
+            return TreeDistanceOracle.forMaze(maze);
+        } catch (IllegalStateException notATree) {
+            return null;
+        }
+    }
+
+    /*
+     * Optimal order by dynamic programming over subsets: best[mask][j] is the shortest
+     * walk from the start through exactly the checkpoints in mask, ending at checkpoint j.
+     */
+    private static int[] heldKarp(long[][] dist, int k) {
+        int[] route = new int[k + 2];
+        route[k + 1] = k + 1;
+        if (k == 0) return route;
+
+        int full = (1 << k) - 1;
+        long[][] best = new long[1 << k][k];
+        byte[][] previous = new byte[1 << k][k];
+        for (long[] row : best) Arrays.fill(row, INF);
+        for (int j = 0; j < k; j++) {
+            best[1 << j][j] = dist[0][j + 1];
+            previous[1 << j][j] = -1;
+        }
+
+        for (int mask = 1; mask <= full; mask++) {
+            for (int j = 0; j < k; j++) {
+                long cost = best[mask][j];
+                if (cost >= INF || (mask & (1 << j)) == 0) continue;
+                for (int next = 0; next < k; next++) {
+                    if ((mask & (1 << next)) != 0) continue;
+                    int nextMask = mask | (1 << next);
+                    long candidate = cost + dist[j + 1][next + 1];
+                    if (candidate < best[nextMask][next]) {
+                        best[nextMask][next] = candidate;
+                        previous[nextMask][next] = (byte) j;
+                    }
+                }
+            }
+        }
+
+        int last = 0;
+        for (int j = 1; j < k; j++) {
+            if (best[full][j] + dist[j + 1][k + 1] < best[full][last] + dist[last + 1][k + 1]) last = j;
+        }
+        for (int mask = full, i = k; i >= 1; i--) {
+            route[i] = last + 1;
+            int prior = previous[mask][last];
+            mask &= ~(1 << last);
+            last = prior;
+        }
+        return route;
+    }
+
+    /*
+     * Nearest-neighbour route, then 2-opt (reverse a stretch) and Or-opt (move a run of
+     * up to three checkpoints elsewhere) until neither improves it. The start and end
+     * stay fixed at either end of the route.
+     */
+    private static int[] localSearch(long[][] dist, int k) {
+        int[] route = new int[k + 2];
+        boolean[] used = new boolean[k + 2];
+        route[k + 1] = k + 1;
+        for (int i = 1; i <= k; i++) {
+            int from = route[i - 1];
+            int nearest = -1;
+            for (int node = 1; node <= k; node++) {
+                if (!used[node] && (nearest < 0 || dist[from][node] < dist[from][nearest])) nearest = node;
+            }
+            used[nearest] = true;
+            route[i] = nearest;
+        }
+
+        boolean improved = true;
+        while (improved) {
+            improved = twoOpt(dist, route) | orOpt(dist, route);
+        }
+        return route;
+    }
+
+    private static boolean twoOpt(long[][] dist, int[] route) {
+        boolean improved = false;
+        int last = route.length - 1;
+        for (int i = 1; i < last; i++) {
+            for (int j = i + 1; j < last; j++) {
+                // Reversing route[i..j] swaps edges (i-1, i) and (j, j+1) for (i-1, j) and (i, j+1)
+                long before = dist[route[i - 1]][route[i]] + dist[route[j]][route[j + 1]];
+                long after = dist[route[i - 1]][route[j]] + dist[route[i]][route[j + 1]];
+                if (after < before) {
+                    for (int a = i, b = j; a < b; a++, b--) {
+                        int swap = route[a];
+                        route[a] = route[b];
+                        route[b] = swap;
+                    }
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    private static boolean orOpt(long[][] dist, int[] route) {
+        boolean improved = false;
+        int last = route.length - 1;
+        for (int length = 1; length <= 3; length++) {
+            for (int i = 1; i + length - 1 < last; i++) {
+                int j = i + length - 1;
+                long removed = dist[route[i - 1]][route[i]] + dist[route[j]][route[j + 1]] - dist[route[i - 1]][route[j + 1]];
+                for (int p = 0; p < last; p++) {
+                    if (p >= i - 1 && p <= j) continue;
+                    // Insert the run between route[p] and route[p + 1], in either orientation
+                    long forward = dist[route[p]][route[i]] + dist[route[j]][route[p + 1]];
+                    long reversed = dist[route[p]][route[j]] + dist[route[i]][route[p + 1]];
+                    long added = Math.min(forward, reversed) - dist[route[p]][route[p + 1]];
+                    if (added < removed) {
+                        moveRun(route, i, j, p, reversed < forward);
+                        improved = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
+    /*
+     * Moves route[i..j] to sit after position p (p outside [i - 1, j]).
+     */
+    private static void moveRun(int[] route, int i, int j, int p, boolean reverse) {
+        int length = j - i + 1;
+        int[] run = Arrays.copyOfRange(route, i, j + 1);
+        if (reverse) {
+            for (int a = 0, b = length - 1; a < b; a++, b--) {
+                int swap = run[a];
+                run[a] = run[b];
+                run[b] = swap;
+            }
+        }
+        if (p < i) {
+            System.arraycopy(route, p + 1, route, p + 1 + length, i - p - 1);
+            System.arraycopy(run, 0, route, p + 1, length);
+        } else {
+            System.arraycopy(route, j + 1, route, i, p - j);
+            System.arraycopy(run, 0, route, p - length + 1, length);
+        }
+    }
+
+    private static long routeLength(long[][] dist, int[] route) {
+        long total = 0;
+        for (int i = 0; i + 1 < route.length; i++) {
+            total += dist[route[i]][route[i + 1]];
+            if (total >= INF) return INF;
+        }
+        return total;
+    }
+
+    /*
+     * Checkpoint positions (indices into the list given to the constructor) in the order
+     * the last route visits them, or an empty array if no route was found.
+     */
+    public int[] getOrder() {
+        return order;
+    }
+
+    /*
+     * Steps in the last route, or -1 if no route was found.
+     */
+    public long getTourLength() {
+        return tourLength;
+    }
+
+    public Duration getTimeToSolve() {
+        return timeToSolve;
+    }
+}
@@ -6,6 +6,7 @@ import MazeGen.MazeGenerator;
 import Solvers.AStar;
 import Solvers.BFS;
 import Solvers.DFS;
+import Solvers.DeadEndFiller;
 import Solvers.RightHandSolver;
 import javafx.application.Application;
 import javafx.application.Platform;
@@ -79,6 +80,7 @@ public class Main extends Application {
         Button bfsButton = new Button("Solve with BFS");
         Button aStarButton = new Button("Solve with A*");
         Button rhsButton = new Button("Solve with RHS");
+        Button fillButton = new Button("Solve with Dead-End Fill");
 
         generateButton.setOnAction(e -> {
             try {
@@ -103,6 +105,7 @@ public class Main extends Application {
         bfsButton.setOnAction(e -> solveWith(new BFS(maze)));
         aStarButton.setOnAction(e -> solveWith(new AStar(maze)));
         rhsButton.setOnAction(e -> solveWith(new RightHandSolver(maze)));
+        fillButton.setOnAction(e -> solveWith(new DeadEndFiller(maze)));
 
         HBox generateBox = new HBox(10, generateButton, randomSeedButton);
         generateBox.setPadding(new Insets(5, 0, 5, 0));
@@ -115,7 +118,7 @@ public class Main extends Application {
                 new Label("Animation Speed:"), speedSelector,
                 generateBox,
                 new Separator(),
-                dfsButton, bfsButton, aStarButton, rhsButton
+                dfsButton, bfsButton, aStarButton, rhsButton, fillButton
         );
     }
 
@@ -182,6 +185,10 @@ public class Main extends Application {
             path = astar.solve();
             visited = astar.getVisitedOrder();
             duration = astar.getTimeToSolve();
+        } else if (solver instanceof DeadEndFiller filler) {
+            path = filler.solve();
+            visited = filler.getVisitedOrder();
+            duration = filler.getTimeToSolve();
         } else if (solver instanceof RightHandSolver rhs) {
             path = rhs.solve();
             duration = rhs.getTimeToSolve();
@@ -43,9 +43,9 @@ public class MazeView extends GridPane {
                 bg.widthProperty().bind(cellPane.widthProperty());
                 bg.heightProperty().bind(cellPane.heightProperty());
 
-                if (cell == maze.getStartCell()) {
+                if (cell.equals(maze.getStartCell())) {
                     bg.setFill(Color.LIMEGREEN);
-                } else if (cell == maze.getEndCell()) {
+                } else if (cell.equals(maze.getEndCell())) {
                     bg.setFill(Color.RED);
                 } else {
                     bg.setFill(Color.WHITE);
@@ -103,9 +103,9 @@ public class MazeView extends GridPane {
                 Rectangle bg = (Rectangle) cellPane.getChildren().get(0);
 
                 Cell cell = maze.getCell(r, c);
-                if (cell == maze.getStartCell()) {
+                if (cell.equals(maze.getStartCell())) {
                     bg.setFill(Color.LIMEGREEN);
-                } else if (cell == maze.getEndCell()) {
+                } else if (cell.equals(maze.getEndCell())) {
                     bg.setFill(Color.RED);
                 } else {
                     bg.setFill(Color.WHITE);
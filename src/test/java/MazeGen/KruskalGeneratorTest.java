@@ -0,0 +1,64 @@
+package MazeGen;
+
+import org.junit.jupiter.api.RepeatedTest;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Lives in the MazeGen package so it can replay KruskalGenerator's package-private
+ * shuffled edge order through a plain sequential union-find.
+ */
+public class KruskalGeneratorTest {
+
+    @RepeatedTest(50)
+    void testKruskalMatchesSequentialKruskal() {
+        long seed = new Random().nextLong();
+        int rows = new Random().nextInt(60) + 1;
+        int cols = new Random().nextInt(60) + 1;
+        Maze expected = new Maze(seed, rows, cols);
+        Maze actual = new Maze(seed, rows, cols);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            KruskalGenerator generator = new KruskalGenerator(actual, pool);
+            generator.carve();
+
+            int edgeCount = rows * (cols - 1) + (rows - 1) * cols;
+            if (edgeCount > 0) {
+                int[] parent = new int[rows * cols];
+                for (int i = 0; i < parent.length; i++) parent[i] = i;
+                for (long entry : generator.shuffledEdges(edgeCount)) {
+                    int edge = (int) entry;
+                    int cell = edge >>> 1;
+                    int a = find(parent, cell);
+                    int b = find(parent, (edge & 1) == 0 ? cell + 1 : cell + cols);
+                    if (a == b) continue;
+                    parent[Math.max(a, b)] = Math.min(a, b);
+                    expected.removeWall(cell / cols, cell % cols, (edge & 1) == 0 ? Direction.RIGHT : Direction.DOWN);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                assertEquals(expected.hasWall(r, c, Direction.RIGHT), actual.hasWall(r, c, Direction.RIGHT),
+                        "RIGHT wall differs from sequential Kruskal at (" + r + "," + c + "). Seed: " + seed);
+                assertEquals(expected.hasWall(r, c, Direction.DOWN), actual.hasWall(r, c, Direction.DOWN),
+                        "DOWN wall differs from sequential Kruskal at (" + r + "," + c + "). Seed: " + seed);
+            }
+        }
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
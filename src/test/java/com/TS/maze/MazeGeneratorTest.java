@@ -1,9 +1,17 @@
 package com.TS.maze;
 
+import MazeGen.Braider;
 import MazeGen.Cell;
 import MazeGen.Direction;
+import MazeGen.EllerGenerator;
+import MazeGen.KruskalGenerator;
 import MazeGen.Maze;
 import MazeGen.MazeGenerator;
+import MazeGen.MazeRandom;
+import MazeGen.MazeRowSink;
+import MazeGen.RowParallelGenerator;
+import MazeGen.TerrainGenerator;
+import MazeGen.TiledGenerator;
 import Solvers.AStar;
 import Solvers.BFS;
 import Solvers.DFS;
@@ -15,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 
 public class MazeGeneratorTest {
@@ -298,6 +307,417 @@ public class MazeGeneratorTest {
         }
     }
 
+    @RepeatedTest(100)
+    void testPackedStorageMatchesCellStorage() {
+        long seed = new Random().nextLong();
+        int rows = new Random().nextInt(50) + 1;
+        int cols = new Random().nextInt(50) + 1;
+        Maze cellMaze = new Maze(seed, rows, cols);
+        Maze packedMaze = new Maze(seed, rows, cols, Maze.Storage.PACKED);
+        new MazeGenerator(cellMaze).generateMaze();
+        new MazeGenerator(packedMaze).generateMaze();
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                for (Direction dir : Direction.values()) {
+                    boolean expected = cellMaze.getCell(r, c).hasWall(dir);
+                    boolean actual = packedMaze.getCell(r, c).hasWall(dir);
+
+                    if (expected != actual) {
+                        TestLogger.logFailure(String.format(
+                                "Packed mismatch | Seed: %d | %dx%d | Cell: (%d,%d) Dir: %s",
+                                seed, rows, cols, r, c, dir));
+                    }
+
+                    assertEquals(expected, actual, String.format(
+                            "Packed wall mismatch at (%d,%d) Dir: %s | Seed: %d", r, c, dir, seed));
+                }
+            }
+        }
+
+        assertEquals(cellMaze.getEndCell().getRow(), packedMaze.getEndCell().getRow(), "End row mismatch. Seed: " + seed);
+        assertEquals(cellMaze.getEndCell().getCol(), packedMaze.getEndCell().getCol(), "End col mismatch. Seed: " + seed);
+    }
+
+    @Test
+    void testSolversOnPackedMaze() {
+        Maze maze = new Maze(42L, 30, 30, Maze.Storage.PACKED);
+        new MazeGenerator(maze).generateMaze();
+
+        assertEquals(900, com.TS.maze.Helpers.PathVerifier.countReachableCells(maze.getStartCell(), maze),
+                "Packed maze not fully connected");
+        assertFalse(new DFS(maze).solve().isEmpty(), "DFS failed on packed maze");
+        assertFalse(new BFS(maze).solve().isEmpty(), "BFS failed on packed maze");
+        assertFalse(new AStar(maze).solve().isEmpty(), "A* failed on packed maze");
+        assertFalse(new RightHandSolver(maze).solve().isEmpty(), "RHS failed on packed maze");
+    }
+
+    @RepeatedTest(200)
+    void testIterativeMazeIsPerfect() {
+        assertPerfect(MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER);
+    }
+
+    @RepeatedTest(200)
+    void testEllerMazeIsPerfect() {
+        assertPerfect(MazeGenerator.Algorithm.ELLER);
+    }
+
+    @RepeatedTest(200)
+    void testKruskalMazeIsPerfect() {
+        assertPerfect(MazeGenerator.Algorithm.KRUSKAL);
+    }
+
+    @RepeatedTest(100)
+    void testSidewinderMazeIsPerfect() {
+        assertPerfect(MazeGenerator.Algorithm.SIDEWINDER);
+    }
+
+    @RepeatedTest(100)
+    void testBinaryTreeMazeIsPerfect() {
+        assertPerfect(MazeGenerator.Algorithm.BINARY_TREE);
+    }
+
+    @Test
+    void testRowParallelStoragesAgree() {
+        for (RowParallelGenerator.Style style : RowParallelGenerator.Style.values()) {
+            Maze cellMaze = new Maze(5L, 120, 90);
+            Maze packedMaze = new Maze(5L, 120, 90, Maze.Storage.PACKED);
+            new RowParallelGenerator(cellMaze, style, ForkJoinPool.commonPool()).carve();
+            new RowParallelGenerator(packedMaze, style, ForkJoinPool.commonPool()).carve();
+
+            for (int r = 0; r < 120; r++) {
+                for (int c = 0; c < 90; c++) {
+                    for (Direction dir : Direction.values()) {
+                        assertEquals(cellMaze.hasWall(r, c, dir), packedMaze.hasWall(r, c, dir),
+                                style + " wall differs at (" + r + "," + c + ") " + dir);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testKruskalIsIndependentOfParallelism() {
+        Maze single = new Maze(2024L, 300, 300, Maze.Storage.PACKED);
+        Maze parallel = new Maze(2024L, 300, 300, Maze.Storage.PACKED);
+        ForkJoinPool onePool = new ForkJoinPool(1);
+        ForkJoinPool manyPool = new ForkJoinPool(4);
+        try {
+            new KruskalGenerator(single, onePool).carve();
+            new KruskalGenerator(parallel, manyPool).carve();
+        } finally {
+            onePool.shutdown();
+            manyPool.shutdown();
+        }
+
+        for (int r = 0; r < 300; r++) {
+            for (int c = 0; c < 300; c++) {
+                assertEquals(single.hasWall(r, c, Direction.RIGHT), parallel.hasWall(r, c, Direction.RIGHT),
+                        "RIGHT wall differs at (" + r + "," + c + ")");
+                assertEquals(single.hasWall(r, c, Direction.DOWN), parallel.hasWall(r, c, Direction.DOWN),
+                        "DOWN wall differs at (" + r + "," + c + ")");
+            }
+        }
+    }
+
+    @RepeatedTest(100)
+    void testTiledMazeIsPerfect() {
+        long seed = new Random().nextLong();
+        int rows = new Random().nextInt(80) + 1;
+        int cols = new Random().nextInt(80) + 1;
+        int tileSize = new Random().nextInt(20) + 1;
+        Maze maze = new Maze(seed, rows, cols);
+        new TiledGenerator(maze, tileSize, ForkJoinPool.commonPool()).carve();
+        maze.setStartCell(0, 0);
+
+        int reachable = com.TS.maze.Helpers.PathVerifier.countReachableCells(maze.getStartCell(), maze);
+        int openEdges = countOpenEdges(maze);
+
+        if (reachable != rows * cols || openEdges != rows * cols - 1) {
+            TestLogger.logFailure(String.format("Tiled Maze Not Perfect | Seed: %d | %dx%d | Tile: %d | Reachable: %d | Edges: %d",
+                    seed, rows, cols, tileSize, reachable, openEdges));
+        }
+
+        assertEquals(rows * cols, reachable, "Tiled maze is not fully connected. Seed: " + seed + ", Tile: " + tileSize);
+        assertEquals(rows * cols - 1, openEdges, "Tiled maze is not a tree. Seed: " + seed + ", Tile: " + tileSize);
+    }
+
+    @Test
+    void testTiledIsIndependentOfParallelism() {
+        Maze single = new Maze(77L, 250, 250, Maze.Storage.PACKED);
+        Maze parallel = new Maze(77L, 250, 250, Maze.Storage.PACKED);
+        ForkJoinPool onePool = new ForkJoinPool(1);
+        ForkJoinPool manyPool = new ForkJoinPool(4);
+        try {
+            new TiledGenerator(single, 32, onePool).carve();
+            new TiledGenerator(parallel, 32, manyPool).carve();
+        } finally {
+            onePool.shutdown();
+            manyPool.shutdown();
+        }
+
+        for (int r = 0; r < 250; r++) {
+            for (int c = 0; c < 250; c++) {
+                assertEquals(single.hasWall(r, c, Direction.RIGHT), parallel.hasWall(r, c, Direction.RIGHT),
+                        "RIGHT wall differs at (" + r + "," + c + ")");
+                assertEquals(single.hasWall(r, c, Direction.DOWN), parallel.hasWall(r, c, Direction.DOWN),
+                        "DOWN wall differs at (" + r + "," + c + ")");
+            }
+        }
+    }
+
+    @Test
+    void testEllerStreamsRowsToWriter() {
+        java.io.StringWriter out = new java.io.StringWriter();
+        new EllerGenerator(7L, 20, 8).generate(MazeRowSink.toAscii(out));
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(2 * 20 + 1, lines.length, "Unexpected number of ASCII lines");
+        assertEquals("+---".repeat(8) + "+", lines[lines.length - 1], "Bottom border not closed");
+    }
+
+    private void assertPerfect(MazeGenerator.Algorithm algorithm) {
+        long seed = new Random().nextLong();
+        int rows = new Random().nextInt(60) + 1;
+        int cols = new Random().nextInt(60) + 1;
+        Maze maze = new Maze(seed, rows, cols);
+        new MazeGenerator(maze, algorithm).generateMaze();
+
+        int reachable = com.TS.maze.Helpers.PathVerifier.countReachableCells(maze.getStartCell(), maze);
+        int openEdges = countOpenEdges(maze);
+
+        if (reachable != rows * cols || openEdges != rows * cols - 1) {
+            TestLogger.logFailure(String.format("%s Maze Not Perfect | Seed: %d | %dx%d | Reachable: %d | Edges: %d",
+                    algorithm, seed, rows, cols, reachable, openEdges));
+        }
+
+        assertEquals(rows * cols, reachable, algorithm + " maze is not fully connected. Seed: " + seed);
+        assertEquals(rows * cols - 1, openEdges, algorithm + " maze is not a tree. Seed: " + seed);
+    }
+
+    private int countOpenEdges(Maze maze) {
+        int openEdges = 0;
+        for (int r = 0; r < maze.getRows(); r++) {
+            for (int c = 0; c < maze.getCols(); c++) {
+                if (c + 1 < maze.getCols() && !maze.hasWall(r, c, Direction.RIGHT)) openEdges++;
+                if (r + 1 < maze.getRows() && !maze.hasWall(r, c, Direction.DOWN)) openEdges++;
+            }
+        }
+        return openEdges;
+    }
+
+    @Test
+    void testIterativeGenerationHandlesDeepMazes() {
+        Maze maze = new Maze(9999999L, 600, 600, Maze.Storage.PACKED);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER).generateMaze();
+
+        int reachable = com.TS.maze.Helpers.PathVerifier.countReachableCells(maze.getStartCell(), maze);
+        assertEquals(600 * 600, reachable, "Deep iterative maze not fully connected");
+    }
+
+    @RepeatedTest(200)
+    void testFarthestDeadEndPlacement() {
+        long seed = new Random().nextLong();
+        int rows = new Random().nextInt(50) + 2;
+        int cols = new Random().nextInt(50) + 2;
+        Maze maze = new Maze(seed, rows, cols);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER,
+                MazeGenerator.Placement.FARTHEST_DEAD_END).generateMaze();
+
+        Cell start = maze.getStartCell();
+        Cell end = maze.getEndCell();
+        int[][] distances = distancesFrom(maze, start);
+        int farthest = 0;
+        for (int[] row : distances) {
+            for (int d : row) farthest = Math.max(farthest, d);
+        }
+
+        assertTrue(start.getRow() == 0 || start.getRow() == rows - 1 || start.getCol() == 0 || start.getCol() == cols - 1,
+                "Start not on edge. Seed: " + seed);
+        assertEquals(farthest, distances[end.getRow()][end.getCol()], "End is not the farthest cell. Seed: " + seed);
+    }
+
+    @RepeatedTest(200)
+    void testDiameterPlacement() {
+        long seed = new Random().nextLong();
+        int rows = new Random().nextInt(50) + 2;
+        int cols = new Random().nextInt(50) + 2;
+        Maze maze = new Maze(seed, rows, cols);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER,
+                MazeGenerator.Placement.DIAMETER).generateMaze();
+
+        Cell start = maze.getStartCell();
+        Cell end = maze.getEndCell();
+        int pathLength = distancesFrom(maze, start)[end.getRow()][end.getCol()];
+
+        // Check against brute force: BFS from every cell, no pair of cells is farther apart
+        int longest = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                for (int[] row : distancesFrom(maze, maze.getCell(r, c))) {
+                    for (int d : row) longest = Math.max(longest, d);
+                }
+            }
+        }
+
+        if (pathLength < longest) {
+            TestLogger.logFailure(String.format("Diameter Too Short | Seed: %d | %dx%d | Found: %d | Longest: %d",
+                    seed, rows, cols, pathLength, longest));
+        }
+
+        assertTrue(pathLength >= longest, "Diameter placement is not the longest path. Seed: " + seed);
+    }
+
+    private int[][] distancesFrom(Maze maze, Cell source) {
+        int[][] distances = new int[maze.getRows()][maze.getCols()];
+        for (int[] row : distances) java.util.Arrays.fill(row, -1);
+        java.util.ArrayDeque<Cell> queue = new java.util.ArrayDeque<>();
+        distances[source.getRow()][source.getCol()] = 0;
+        queue.add(source);
+
+        while (!queue.isEmpty()) {
+            Cell current = queue.poll();
+            for (Direction dir : Direction.values()) {
+                int nr = current.getRow() + dir.getRowOffset();
+                int nc = current.getCol() + dir.getColOffset();
+                if (!maze.isInMaze(nr, nc) || current.hasWall(dir) || distances[nr][nc] >= 0) continue;
+                distances[nr][nc] = distances[current.getRow()][current.getCol()] + 1;
+                queue.add(maze.getCell(nr, nc));
+            }
+        }
+        return distances;
+    }
+
+    @Test
+    void testLegacyRandomMatchesJavaUtilRandom() {
+        MazeRandom legacy = MazeRandom.create(314L, MazeRandom.Version.LEGACY);
+        Random reference = new Random(314L);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(reference.nextInt(i + 1), legacy.nextInt(i + 1), "Legacy draw " + i + " differs");
+        }
+    }
+
+    @Test
+    void testLegacyRandomReproducesBaselineMazes() {
+        // Fingerprints of the default generator's output, recorded from the baseline
+        // before MazeRandom existed (fb597d6): seed, rows, cols, fingerprint
+        long[][] baseline = {
+                {1L, 8, 8, 0x8D15590297E8E90BL},
+                {42L, 20, 30, 0x27FC07A5CD10A166L},
+                {-7L, 1, 25, 0xFE2C70BD6BCEEBBDL},
+                {123456789L, 50, 50, 0x5EEBBB93C04662FAL},
+                {2024L, 33, 17, 0xD03A692D55052E56L},
+        };
+
+        for (long[] entry : baseline) {
+            Maze maze = new Maze(entry[0], (int) entry[1], (int) entry[2], Maze.Storage.CELLS, MazeRandom.Version.LEGACY);
+            new MazeGenerator(maze).generateMaze();
+            assertEquals(entry[3], fingerprint(maze),
+                    "Legacy maze differs from the baseline layout. Seed: " + entry[0] + " | " + entry[1] + "x" + entry[2]);
+        }
+    }
+
+    /*
+     * FNV-1a over each cell's wall bits in row-major order, then the start and end positions.
+     */
+    private static long fingerprint(Maze maze) {
+        long hash = 0xcbf29ce484222325L;
+        for (int r = 0; r < maze.getRows(); r++) {
+            for (int c = 0; c < maze.getCols(); c++) {
+                int bits = 0;
+                for (Direction dir : Direction.values()) {
+                    if (maze.hasWall(r, c, dir)) bits |= 1 << dir.ordinal();
+                }
+                hash = (hash ^ bits) * 0x100000001b3L;
+            }
+        }
+        int[] ends = {maze.getStartCell().getRow(), maze.getStartCell().getCol(),
+                maze.getEndCell().getRow(), maze.getEndCell().getCol()};
+        for (int value : ends) {
+            hash = (hash ^ value) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    @Test
+    void testSplitStreamsIgnorePriorDraws() {
+        for (MazeRandom.Version version : MazeRandom.Version.values()) {
+            MazeRandom fresh = MazeRandom.create(99L, version);
+            MazeRandom used = MazeRandom.create(99L, version);
+            for (int i = 0; i < 50; i++) {
+                used.nextLong();
+            }
+
+            MazeRandom a = fresh.split(7);
+            MazeRandom b = used.split(7);
+            assertEquals(version, a.getVersion(), "Child stream changed version");
+            for (int i = 0; i < 100; i++) {
+                assertEquals(a.nextLong(), b.nextLong(), version + " split stream depends on prior draws");
+            }
+        }
+    }
+
+    @RepeatedTest(200)
+    void testBraidingRemovesDeadEnds() {
+        long seed = new Random().nextLong();
+        int rows = new Random().nextInt(40) + 2;
+        int cols = new Random().nextInt(40) + 2;
+        double fraction = new Random().nextDouble();
+        Maze maze = new Maze(seed, rows, cols);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER).generateMaze();
+
+        int before = countDeadEnds(maze);
+        new Braider(maze).braid(fraction);
+        int after = countDeadEnds(maze);
+        int reachable = com.TS.maze.Helpers.PathVerifier.countReachableCells(maze.getStartCell(), maze);
+
+        if (after > before - Math.round(fraction * before)) {
+            TestLogger.logFailure(String.format("Braiding Left Dead Ends | Seed: %d | %dx%d | Fraction: %.3f | Before: %d | After: %d",
+                    seed, rows, cols, fraction, before, after));
+        }
+
+        assertTrue(after <= before - Math.round(fraction * before), "Too many dead ends left. Seed: " + seed);
+        assertEquals(rows * cols, reachable, "Braiding disconnected the maze. Seed: " + seed);
+    }
+
+    @Test
+    void testFullBraidIsReproducible() {
+        Maze first = new Maze(77L, 30, 30);
+        Maze second = new Maze(77L, 30, 30, Maze.Storage.PACKED);
+        for (Maze maze : new Maze[]{first, second}) {
+            new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER).generateMaze();
+            new Braider(maze).braid(1.0);
+            new TerrainGenerator(maze).generate(9);
+        }
+
+        assertEquals(0, countDeadEnds(first), "A full braid should leave no dead ends");
+        assertTrue(countOpenEdges(first) > 30 * 30 - 1, "Braiding should add loops");
+        for (int r = 0; r < 30; r++) {
+            for (int c = 0; c < 30; c++) {
+                assertEquals(first.getCost(r, c), second.getCost(r, c), "Terrain differs at " + r + "," + c);
+                assertTrue(first.getCost(r, c) >= 1 && first.getCost(r, c) <= 9, "Cost out of range");
+                for (Direction dir : Direction.values()) {
+                    assertEquals(first.hasWall(r, c, dir), second.hasWall(r, c, dir), "Braid differs at " + r + "," + c);
+                }
+            }
+        }
+    }
+
+    private int countDeadEnds(Maze maze) {
+        int deadEnds = 0;
+        for (int r = 0; r < maze.getRows(); r++) {
+            for (int c = 0; c < maze.getCols(); c++) {
+                int open = 0;
+                for (Direction dir : Direction.values()) {
+                    if (maze.isInMaze(r + dir.getRowOffset(), c + dir.getColOffset()) && !maze.hasWall(r, c, dir)) open++;
+                }
+                if (open == 1) deadEnds++;
+            }
+        }
+        return deadEnds;
+    }
+
     //Edge Cases
     @Test
     void testMinMazeSize(){
@@ -0,0 +1,935 @@
+package com.TS.maze;
+
+import MazeGen.Braider;
+import MazeGen.Cell;
+import MazeGen.Direction;
+import MazeGen.Maze;
+import MazeGen.MazeGenerator;
+import MazeGen.TerrainGenerator;
+import Solvers.AStar;
+import Solvers.BFS;
+import Solvers.BidirectionalAStar;
+import Solvers.BatchResult;
+import Solvers.BatchSolver;
+import Solvers.BidirectionalBFS;
+import Solvers.DFS;
+import Solvers.DeadEndFiller;
+import Solvers.DialSolver;
+import Solvers.DistanceField;
+import Solvers.HierarchicalSolver;
+import Solvers.JunctionGraph;
+import Solvers.JunctionSolver;
+import Solvers.LPAStar;
+import Solvers.ParallelBFS;
+import Solvers.RightHandSolver;
+import Solvers.TilePortalGraph;
+import Solvers.TreeDistanceOracle;
+import Solvers.WallFollower;
+import Solvers.WaypointSolver;
+import Solvers.WavefrontSolver;
+import com.TS.maze.Helpers.TestLogger;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SolverTest {
+
+    @RepeatedTest(200)
+    void testPrimitiveAStarMatchesBFSLength() {
+        long seed = new Random().nextLong();
+        Maze maze = loopyMaze(seed, new Random().nextInt(40) + 1, new Random().nextInt(40) + 1);
+
+        List<Cell> expected = new BFS(maze).solve();
+        int[] actual = new AStar(maze).solveIndices();
+
+        if (actual.length != expected.size()) {
+            TestLogger.logFailure(String.format("A* Length Mismatch | Seed: %d | %dx%d | BFS: %d | A*: %d",
+                    seed, maze.getRows(), maze.getCols(), expected.size(), actual.length));
+        }
+
+        assertEquals(expected.size(), actual.length, "Primitive A* is not optimal. Seed: " + seed);
+        assertValidIndexPath(maze, actual);
+    }
+
+    @RepeatedTest(200)
+    void testRingBufferBFSMatchesBFS() {
+        long seed = new Random().nextLong();
+        Maze maze = loopyMaze(seed, new Random().nextInt(40) + 1, new Random().nextInt(40) + 1);
+
+        List<Cell> expected = new BFS(maze).solve();
+        BFS bfs = new BFS(maze);
+        int[] first = bfs.solveIndices();
+        int[] second = bfs.solveIndices();
+
+        assertEquals(expected.size(), first.length, "Ring-buffer BFS is not optimal. Seed: " + seed);
+        assertArrayEquals(first, second, "Reusing BFS buffers changed the result. Seed: " + seed);
+        assertValidIndexPath(maze, first);
+    }
+
+    @RepeatedTest(200)
+    void testIterativeDFSMatchesRecursiveVisitOrder() {
+        long seed = new Random().nextLong();
+        Maze maze = loopyMaze(seed, new Random().nextInt(40) + 1, new Random().nextInt(40) + 1);
+
+        DFS recursive = new DFS(maze);
+        DFS iterative = new DFS(maze);
+        List<Cell> expectedPath = recursive.solve();
+        List<Cell> actualPath = iterative.solveIterative();
+
+        assertEquals(expectedPath, actualPath, "Iterative DFS path differs. Seed: " + seed);
+        assertEquals(recursive.getVisitedOrder(), iterative.getVisitedOrder(), "Iterative DFS visit order differs. Seed: " + seed);
+    }
+
+    @Test
+    void testIterativeDFSHandlesLongCorridors() {
+        Maze maze = new Maze(3L, 700, 700, Maze.Storage.PACKED);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER,
+                MazeGenerator.Placement.DIAMETER).generateMaze();
+
+        List<Cell> path = new DFS(maze).solveIterative();
+        assertEquals(maze.getEndCell(), path.get(path.size() - 1), "Iterative DFS did not reach the end");
+    }
+
+    @RepeatedTest(200)
+    void testBidirectionalSolversAreOptimal() {
+        long seed = new Random().nextLong();
+        Maze maze = loopyMaze(seed, new Random().nextInt(40) + 1, new Random().nextInt(40) + 1);
+
+        int expected = new BFS(maze).solve().size();
+        List<Cell> bfsPath = new BidirectionalBFS(maze).solve();
+        List<Cell> aStarPath = new BidirectionalAStar(maze).solve();
+
+        if (bfsPath.size() != expected || aStarPath.size() != expected) {
+            TestLogger.logFailure(String.format("Bidirectional Length Mismatch | Seed: %d | %dx%d | BFS: %d | BiBFS: %d | BiA*: %d",
+                    seed, maze.getRows(), maze.getCols(), expected, bfsPath.size(), aStarPath.size()));
+        }
+
+        assertEquals(expected, bfsPath.size(), "Bidirectional BFS is not optimal. Seed: " + seed);
+        assertEquals(expected, aStarPath.size(), "Bidirectional A* is not optimal. Seed: " + seed);
+        assertValidIndexPath(maze, toIndices(maze, bfsPath));
+        assertValidIndexPath(maze, toIndices(maze, aStarPath));
+    }
+
+    @RepeatedTest(100)
+    void testParallelBFSMatchesBFSLength() {
+        long seed = new Random().nextLong();
+        Maze maze = loopyMaze(seed, new Random().nextInt(40) + 1, new Random().nextInt(40) + 1);
+
+        int expected = new BFS(maze).solve().size();
+        List<Cell> actual = new ParallelBFS(maze).solve();
+
+        if (actual.size() != expected) {
+            TestLogger.logFailure(String.format("Parallel BFS Length Mismatch | Seed: %d | %dx%d | BFS: %d | Parallel: %d",
+                    seed, maze.getRows(), maze.getCols(), expected, actual.size()));
+        }
+
+        assertEquals(expected, actual.size(), "Parallel BFS is not optimal. Seed: " + seed);
+        assertValidIndexPath(maze, toIndices(maze, actual));
+    }
+
+    @Test
+    void testParallelBFSOnWideFrontiers() {
+        // An open room searched from its centre grows frontiers well past the serial threshold
+        Maze maze = new Maze(5L, 1200, 1200, Maze.Storage.PACKED);
+        for (int r = 0; r < maze.getRows(); r++) {
+            for (int c = 0; c < maze.getCols(); c++) {
+                if (c + 1 < maze.getCols()) maze.removeWall(r, c, Direction.RIGHT);
+                if (r + 1 < maze.getRows()) maze.removeWall(r, c, Direction.DOWN);
+            }
+        }
+        maze.setStartCell(600, 600);
+        maze.setEndCell(0, 1199);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelBFS solver = new ParallelBFS(maze, pool);
+            List<Cell> path = solver.solve();
+
+            assertEquals(600 + 599 + 1, path.size(), "Parallel BFS is not optimal on an open room");
+            assertEquals(path.size() - 1, solver.getLevelTimes().size(), "Expected one timing per BFS level");
+            assertValidIndexPath(maze, toIndices(maze, path));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @RepeatedTest(200)
+    void testWavefrontMatchesBFSLength() {
+        long seed = new Random().nextLong();
+        // Widths up to 200 make rows span several 64-bit words
+        Maze maze = loopyMaze(seed, new Random().nextInt(40) + 1, new Random().nextInt(200) + 1);
+
+        int expected = new BFS(maze).solve().size();
+        WavefrontSolver solver = new WavefrontSolver(maze);
+        List<Cell> actual = solver.solve();
+
+        if (actual.size() != expected) {
+            TestLogger.logFailure(String.format("Wavefront Length Mismatch | Seed: %d | %dx%d | BFS: %d | Wavefront: %d",
+                    seed, maze.getRows(), maze.getCols(), expected, actual.size()));
+        }
+
+        assertEquals(expected, actual.size(), "Wavefront solver is not optimal. Seed: " + seed);
+        assertEquals(expected - 1, solver.getDistanceField()[maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol())],
+                "Distance field disagrees with path length. Seed: " + seed);
+        assertValidIndexPath(maze, toIndices(maze, actual));
+    }
+
+    @RepeatedTest(50)
+    void testWavefrontReusedAcrossWallChanges() {
+        long seed = new Random().nextLong();
+        Random rand = new Random(seed);
+        Maze maze = loopyMaze(seed, rand.nextInt(30) + 1, rand.nextInt(150) + 1);
+        WavefrontSolver solver = new WavefrontSolver(maze);
+
+        // One solver instance, with the cached masks patched by each edit in between
+        for (int round = 0; round < 10; round++) {
+            int r = rand.nextInt(maze.getRows());
+            int c = rand.nextInt(maze.getCols());
+            Direction dir = Direction.values()[rand.nextInt(4)];
+            if (rand.nextBoolean()) maze.removeWall(r, c, dir);
+            else maze.addWall(r, c, dir);
+
+            int expected = new BFS(maze).solve().size();
+            List<Cell> actual = solver.solve();
+
+            if (actual.size() != expected) {
+                TestLogger.logFailure(String.format("Wavefront Reuse Mismatch | Seed: %d | %dx%d | Round: %d | BFS: %d | Wavefront: %d",
+                        seed, maze.getRows(), maze.getCols(), round, expected, actual.size()));
+            }
+
+            assertEquals(expected, actual.size(), "Reused wavefront solver is not optimal. Seed: " + seed);
+            // Entries left over from an earlier solve would disagree with a fresh BFS
+            int[] field = solver.getDistanceField();
+            DistanceField fromStart = new DistanceField(maze, maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol()));
+            for (int cell = 0; cell < field.length; cell++) {
+                if (field[cell] >= 0) {
+                    assertEquals(fromStart.distance(cell), field[cell], "Stale distance at cell " + cell + ". Seed: " + seed);
+                }
+            }
+            if (expected > 0) assertValidIndexPath(maze, toIndices(maze, actual));
+        }
+    }
+
+    @RepeatedTest(100)
+    void testTreeOracleMatchesBFSPaths() {
+        long seed = new Random().nextLong();
+        Maze maze = new Maze(seed, new Random().nextInt(40) + 1, new Random().nextInt(40) + 1);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER).generateMaze();
+        TreeDistanceOracle oracle = TreeDistanceOracle.forMaze(maze);
+
+        Random rand = new Random(seed);
+        for (int i = 0; i < 20; i++) {
+            maze.setStartCell(rand.nextInt(maze.getRows()), rand.nextInt(maze.getCols()));
+            maze.setEndCell(rand.nextInt(maze.getRows()), rand.nextInt(maze.getCols()));
+
+            int[] expected = toIndices(maze, new BFS(maze).solve());
+            int[] actual = toIndices(maze, oracle.path(maze.getStartCell(), maze.getEndCell()));
+
+            if (!Arrays.equals(expected, actual)) {
+                TestLogger.logFailure(String.format("Tree Oracle Path Mismatch | Seed: %d | %dx%d | BFS: %d | Oracle: %d",
+                        seed, maze.getRows(), maze.getCols(), expected.length, actual.length));
+            }
+
+            assertArrayEquals(expected, actual, "Oracle path differs from BFS. Seed: " + seed);
+            assertEquals(expected.length - 1, oracle.distance(maze.getStartCell(), maze.getEndCell()),
+                    "Oracle distance differs from BFS. Seed: " + seed);
+        }
+    }
+
+    @Test
+    void testTreeOracleIsCachedUntilWallsChange() {
+        Maze maze = new Maze(11L, 20, 20);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER).generateMaze();
+
+        TreeDistanceOracle oracle = TreeDistanceOracle.forMaze(maze);
+        assertSame(oracle, TreeDistanceOracle.forMaze(maze), "Oracle should be cached on the maze");
+
+        Maze loopy = loopyMaze(11L, 20, 20);
+        assertThrows(IllegalStateException.class, () -> TreeDistanceOracle.forMaze(loopy),
+                "A maze with loops is not a tree");
+
+        // Opening one more wall in a tree always creates a loop
+        int row = 0;
+        while (!maze.hasWall(row, 0, Direction.RIGHT)) row++;
+        maze.removeWall(row, 0, Direction.RIGHT);
+        assertThrows(IllegalStateException.class, () -> TreeDistanceOracle.forMaze(maze),
+                "Stale oracle returned after a wall change");
+    }
+
+    @RepeatedTest(100)
+    void testDistanceFieldMatchesBFSFromAnyStart() {
+        long seed = new Random().nextLong();
+        Maze maze = loopyMaze(seed, new Random().nextInt(40) + 1, new Random().nextInt(40) + 1);
+        DistanceField field = DistanceField.forMaze(maze);
+        long[] flow = field.getFlowField();
+        Random rand = new Random(seed);
+
+        for (int q = 0; q < 10; q++) {
+            int row = rand.nextInt(maze.getRows());
+            int col = rand.nextInt(maze.getCols());
+            maze.setStartCell(row, col);
+            int expected = new BFS(maze).solve().size();
+            int[] actual = field.pathIndicesFrom(maze.indexOf(row, col));
+
+            if (actual.length != expected) {
+                TestLogger.logFailure(String.format("Distance Field Mismatch | Seed: %d | %dx%d | From: (%d,%d) | BFS: %d | Field: %d",
+                        seed, maze.getRows(), maze.getCols(), row, col, expected, actual.length));
+            }
+
+            assertEquals(expected, actual.length, "Gradient path is not shortest. Seed: " + seed);
+            assertEquals(expected - 1, field.distance(maze.getStartCell()), "Distance disagrees with BFS. Seed: " + seed);
+            assertValidIndexPath(maze, actual);
+            for (int i = 0; i + 1 < actual.length; i++) {
+                int cell = actual[i];
+                int bits = (int) (flow[cell >>> 5] >>> ((cell & 31) << 1)) & 3;
+                assertEquals(Direction.values()[bits], field.nextDirection(cell), "Exported flow field disagrees. Seed: " + seed);
+            }
+        }
+        assertNull(field.nextDirection(field.getGoal()), "The goal has no next step");
+    }
+
+    @Test
+    void testDistanceFieldIsCachedUntilMazeChanges() {
+        Maze maze = loopyMaze(17L, 30, 30);
+        DistanceField field = DistanceField.forMaze(maze);
+        assertSame(field, DistanceField.forMaze(maze), "Field should be cached on the maze");
+
+        maze.setEndCell(5, 5);
+        DistanceField moved = DistanceField.forMaze(maze);
+        assertNotSame(field, moved, "Field was not rebuilt after the end cell moved");
+        assertEquals(maze.indexOf(5, 5), moved.getGoal());
+
+        maze.addWall(5, 5, Direction.RIGHT);
+        maze.addWall(5, 5, Direction.LEFT);
+        maze.addWall(5, 5, Direction.UP);
+        maze.addWall(5, 5, Direction.DOWN);
+        DistanceField walled = DistanceField.forMaze(maze);
+        assertNotSame(moved, walled, "Stale field returned after a wall change");
+        assertEquals(-1, walled.distance(0), "A walled-in goal is unreachable");
+        assertEquals(0, walled.getMaxDistance());
+    }
+
+    @RepeatedTest(100)
+    void testWaypointSolverMatchesBruteForce() {
+        long seed = new Random().nextLong();
+        Random rand = new Random(seed);
+        // Perfect mazes take the tree-distance path, braided ones the BFS path
+        Maze maze = new Maze(seed, rand.nextInt(30) + 1, rand.nextInt(30) + 1);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER).generateMaze();
+        if (rand.nextBoolean()) new Braider(maze).braid(0.5);
+        int cells = maze.getRows() * maze.getCols();
+        int[] checkpoints = new int[rand.nextInt(6)];
+        for (int i = 0; i < checkpoints.length; i++) {
+            checkpoints[i] = rand.nextInt(cells);
+        }
+
+        long expected = bruteForceTour(maze, checkpoints);
+        WaypointSolver solver = new WaypointSolver(maze, checkpoints);
+        int[] actual = solver.solveIndices();
+
+        if (solver.getTourLength() != expected) {
+            TestLogger.logFailure(String.format("Waypoint Tour Mismatch | Seed: %d | %dx%d | K: %d | Brute force: %d | Solver: %d",
+                    seed, maze.getRows(), maze.getCols(), checkpoints.length, expected, solver.getTourLength()));
+        }
+
+        assertEquals(expected, solver.getTourLength(), "Waypoint order is not optimal. Seed: " + seed);
+        assertEquals(expected + 1, actual.length, "Stitched path length disagrees with tour. Seed: " + seed);
+        assertValidIndexPath(maze, actual);
+        assertVisitsInOrder(actual, checkpoints, solver.getOrder());
+    }
+
+    @Test
+    void testWaypointSolverHeuristicForManyCheckpoints() {
+        Maze maze = loopyMaze(23L, 60, 60);
+        Random rand = new Random(23L);
+        int[] checkpoints = new int[40];
+        for (int i = 0; i < checkpoints.length; i++) {
+            checkpoints[i] = rand.nextInt(60 * 60);
+        }
+
+        WaypointSolver solver = new WaypointSolver(maze, checkpoints);
+        int[] path = solver.solveIndices();
+
+        assertEquals(solver.getTourLength() + 1, path.length, "Stitched path length disagrees with tour");
+        assertValidIndexPath(maze, path);
+        assertVisitsInOrder(path, checkpoints, solver.getOrder());
+
+        // The local search must at least beat visiting checkpoints in the order given
+        long given = 0;
+        int at = maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol());
+        for (int checkpoint : checkpoints) {
+            given += new DistanceField(maze, checkpoint).distance(at);
+            at = checkpoint;
+        }
+        given += new DistanceField(maze, maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol())).distance(at);
+        assertTrue(solver.getTourLength() <= given, "Heuristic route is longer than the given order");
+    }
+
+    @Test
+    void testWaypointSolverUnreachableCheckpoint() {
+        // Cells 0-1-2 are connected, cell 3 is walled off
+        Maze maze = new Maze(1L, 1, 4);
+        maze.removeWall(0, 0, Direction.RIGHT);
+        maze.removeWall(0, 1, Direction.RIGHT);
+        maze.setStartCell(0, 0);
+        maze.setEndCell(0, 2);
+
+        WaypointSolver solver = new WaypointSolver(maze, new int[]{1, 3});
+        assertEquals(0, solver.solveIndices().length, "Route skipped an unreachable checkpoint");
+        assertEquals(0, solver.getOrder().length);
+        assertEquals(-1, solver.getTourLength());
+        assertTrue(solver.solve().isEmpty());
+
+        // Same with more than the 12 Held-Karp checkpoints, which takes the local search path
+        int[] many = new int[14];
+        for (int i = 0; i < many.length; i++) many[i] = i % 3;
+        many[many.length - 1] = 3;
+        WaypointSolver heuristic = new WaypointSolver(maze, many);
+        assertEquals(0, heuristic.solveIndices().length, "Heuristic route skipped an unreachable checkpoint");
+        assertEquals(-1, heuristic.getTourLength());
+    }
+
+    /*
+     * Shortest start-to-end tour through every checkpoint, trying every order with BFS leg lengths.
+     */
+    static long bruteForceTour(Maze maze, int[] checkpoints) {
+        int k = checkpoints.length;
+        int[] nodes = new int[k + 2];
+        nodes[0] = maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol());
+        System.arraycopy(checkpoints, 0, nodes, 1, k);
+        nodes[k + 1] = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+        long[][] dist = new long[k + 2][k + 2];
+        Cell start = maze.getStartCell();
+        Cell end = maze.getEndCell();
+        for (int a = 0; a < k + 2; a++) {
+            for (int b = 0; b < k + 2; b++) {
+                maze.setStartCell(nodes[a] / maze.getCols(), nodes[a] % maze.getCols());
+                maze.setEndCell(nodes[b] / maze.getCols(), nodes[b] % maze.getCols());
+                int size = new BFS(maze).solve().size();
+                dist[a][b] = size - 1;
+            }
+        }
+        maze.setStartCell(start.getRow(), start.getCol());
+        maze.setEndCell(end.getRow(), end.getCol());
+
+        int[] order = new int[k];
+        for (int i = 0; i < k; i++) order[i] = i + 1;
+        return bestPermutation(dist, order, 0);
+    }
+
+    private static long bestPermutation(long[][] dist, int[] order, int fixed) {
+        if (fixed == order.length) {
+            long total = 0;
+            int at = 0;
+            for (int node : order) {
+                total += dist[at][node];
+                at = node;
+            }
+            return total + dist[at][order.length + 1];
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = fixed; i < order.length; i++) {
+            int swap = order[fixed]; order[fixed] = order[i]; order[i] = swap;
+            best = Math.min(best, bestPermutation(dist, order, fixed + 1));
+            swap = order[fixed]; order[fixed] = order[i]; order[i] = swap;
+        }
+        return best;
+    }
+
+    static void assertVisitsInOrder(int[] path, int[] checkpoints, int[] order) {
+        assertEquals(checkpoints.length, order.length, "Every checkpoint should appear in the order");
+        int position = 0;
+        for (int checkpoint : order) {
+            while (position < path.length && path[position] != checkpoints[checkpoint]) position++;
+            assertTrue(position < path.length, "Path skips checkpoint " + checkpoints[checkpoint]);
+        }
+    }
+
+    @RepeatedTest(200)
+    void testWallFollowerReachesEndOnPerfectMazes() {
+        long seed = new Random().nextLong();
+        Maze maze = new Maze(seed, new Random().nextInt(40) + 1, new Random().nextInt(40) + 1);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER).generateMaze();
+
+        for (WallFollower.Hand hand : WallFollower.Hand.values()) {
+            WallFollower follower = new WallFollower(maze, hand);
+            boolean reached = follower.follow();
+
+            if (!reached) {
+                TestLogger.logFailure(String.format("Wall Follower Failure | Seed: %d | %dx%d | Hand: %s | Loop: %b",
+                        seed, maze.getRows(), maze.getCols(), hand, follower.isLoopDetected()));
+            }
+
+            assertTrue(reached, hand + "-hand follower did not reach the end. Seed: " + seed);
+            List<Cell> path = follower.expandPath();
+            assertEquals(follower.getStepCount() + 1, path.size(), "Runs do not expand to every step. Seed: " + seed);
+            assertEquals(path.size(), follower.expandFacing().size());
+            assertValidIndexPath(maze, toIndices(maze, path));
+
+            for (int i = 1; i < follower.getRunCount(); i++) {
+                assertNotEquals(follower.getRunDirection(i - 1), follower.getRunDirection(i), "Adjacent runs should be merged");
+            }
+        }
+
+        RightHandSolver rhs = new RightHandSolver(maze);
+        WallFollower right = new WallFollower(maze, WallFollower.Hand.RIGHT);
+        right.follow();
+        assertEquals(right.expandPath(), rhs.solve(), "RightHandSolver should walk the same route. Seed: " + seed);
+        assertEquals(right.expandFacing(), rhs.getFacingHistory());
+    }
+
+    @Test
+    void testWallFollowerStopsOnLoop() {
+        // A ring of eight cells around a walled-in end cell: following either wall circles forever
+        Maze maze = new Maze(29L, 3, 3);
+        int[][] ring = {{0, 0}, {0, 1}, {0, 2}, {1, 2}, {2, 2}, {2, 1}, {2, 0}, {1, 0}};
+        for (int i = 0; i < ring.length; i++) {
+            int[] from = ring[i];
+            int[] to = ring[(i + 1) % ring.length];
+            for (Direction dir : Direction.values()) {
+                if (from[0] + dir.getRowOffset() == to[0] && from[1] + dir.getColOffset() == to[1]) {
+                    maze.removeWall(from[0], from[1], dir);
+                }
+            }
+        }
+        maze.setStartCell(0, 0);
+        maze.setEndCell(1, 1);
+
+        for (WallFollower.Hand hand : WallFollower.Hand.values()) {
+            WallFollower follower = new WallFollower(maze, hand);
+            assertFalse(follower.follow(), hand + "-hand follower cannot reach a walled-in end");
+            assertTrue(follower.isLoopDetected(), "Loop was not detected");
+            assertTrue(follower.getStepCount() <= 4 * 9, "Walk ran past every (cell, facing) state");
+        }
+        assertTrue(new RightHandSolver(maze).solve().isEmpty(), "RightHandSolver should give up on a loop");
+    }
+
+    @RepeatedTest(100)
+    void testRepeatedSolvesReuseWorkspaces() {
+        long seed = new Random().nextLong();
+        // Alternate large and small mazes so pooled buffers are both grown and oversized
+        Maze large = loopyMaze(seed, new Random().nextInt(40) + 20, new Random().nextInt(40) + 20);
+        Maze small = loopyMaze(seed + 1, new Random().nextInt(10) + 1, new Random().nextInt(10) + 1);
+
+        for (Maze maze : List.of(small, large, small)) {
+            int expected = new BFS(maze).solve().size();
+
+            BFS bfs = new BFS(maze);
+            AStar aStar = new AStar(maze);
+            DFS dfs = new DFS(maze);
+            for (int run = 0; run < 2; run++) {
+                List<Cell> bfsPath = bfs.solve();
+                List<Cell> aStarPath = aStar.solve();
+                List<Cell> dfsPath = dfs.solve();
+
+                if (bfsPath.size() != expected || aStarPath.size() != expected || dfsPath.isEmpty()) {
+                    TestLogger.logFailure(String.format("Workspace Reuse Mismatch | Seed: %d | %dx%d | Run: %d | BFS: %d | A*: %d | DFS: %d",
+                            seed, maze.getRows(), maze.getCols(), run, bfsPath.size(), aStarPath.size(), dfsPath.size()));
+                }
+
+                assertEquals(expected, bfsPath.size(), "BFS changed on run " + run + ". Seed: " + seed);
+                assertEquals(expected, aStarPath.size(), "A* changed on run " + run + ". Seed: " + seed);
+                assertValidIndexPath(maze, toIndices(maze, dfsPath));
+                assertEquals(aStar.getExpandedCount(), aStar.getVisitedOrder().size(),
+                        "A* visitedOrder was not cleared between runs. Seed: " + seed);
+                assertEquals(bfs.getVisitedOrder().size(), Arrays.stream(toIndices(maze, bfs.getVisitedOrder())).distinct().count(),
+                        "BFS visited a cell twice. Seed: " + seed);
+            }
+        }
+    }
+
+    @RepeatedTest(100)
+    void testBatchSolverMatchesBFS() {
+        long seed = new Random().nextLong();
+        Maze maze = loopyMaze(seed, new Random().nextInt(40) + 1, new Random().nextInt(40) + 1);
+        int cells = maze.getRows() * maze.getCols();
+
+        Random rand = new Random(seed);
+        int[] starts = new int[30];
+        int[] ends = new int[30];
+        for (int q = 0; q < starts.length; q++) {
+            starts[q] = rand.nextInt(cells);
+            ends[q] = rand.nextInt(cells);
+        }
+
+        BatchResult result = new BatchSolver(maze).solveAll(starts, ends);
+        assertEquals(starts.length, result.size());
+
+        for (int q = 0; q < starts.length; q++) {
+            maze.setStartCell(starts[q] / maze.getCols(), starts[q] % maze.getCols());
+            maze.setEndCell(ends[q] / maze.getCols(), ends[q] % maze.getCols());
+            int expected = new BFS(maze).solve().size();
+
+            if (result.getLength(q) != expected) {
+                TestLogger.logFailure(String.format("Batch Length Mismatch | Seed: %d | %dx%d | Query: %d | BFS: %d | Batch: %d",
+                        seed, maze.getRows(), maze.getCols(), q, expected, result.getLength(q)));
+            }
+
+            assertEquals(expected, result.getLength(q), "Batch query " + q + " is not optimal. Seed: " + seed);
+            assertEquals(result.getOffsets()[q] + result.getLength(q), result.getOffsets()[q + 1], "Offsets are not contiguous");
+            assertValidIndexPath(maze, result.getPath(q));
+        }
+    }
+
+    @RepeatedTest(200)
+    void testJunctionSolverMatchesBFSLength() {
+        long seed = new Random().nextLong();
+        Maze maze = loopyMaze(seed, new Random().nextInt(40) + 1, new Random().nextInt(40) + 1);
+
+        // Random endpoints so queries also start and end in the middle of corridors
+        Random rand = new Random(seed);
+        maze.setStartCell(rand.nextInt(maze.getRows()), rand.nextInt(maze.getCols()));
+        maze.setEndCell(rand.nextInt(maze.getRows()), rand.nextInt(maze.getCols()));
+
+        int expected = new BFS(maze).solve().size();
+        for (JunctionSolver.Mode mode : JunctionSolver.Mode.values()) {
+            int[] actual = new JunctionSolver(maze, mode).solveIndices();
+
+            if (actual.length != expected) {
+                TestLogger.logFailure(String.format("Junction %s Length Mismatch | Seed: %d | %dx%d | BFS: %d | Junction: %d",
+                        mode, seed, maze.getRows(), maze.getCols(), expected, actual.length));
+            }
+
+            assertEquals(expected, actual.length, "Junction " + mode + " is not optimal. Seed: " + seed);
+            assertValidIndexPath(maze, actual);
+        }
+    }
+
+    @Test
+    void testJunctionGraphContractsCorridors() {
+        Maze maze = new Maze(9L, 100, 100);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER).generateMaze();
+        JunctionGraph graph = JunctionGraph.forMaze(maze);
+
+        int corridorCells = 0;
+        for (int r = 0; r < graph.getRunCount(); r++) {
+            corridorCells += graph.getRunLength(r);
+        }
+        assertEquals(maze.getRows() * maze.getCols(), graph.getNodeCount() + corridorCells, "Every cell is a node or in exactly one run");
+        assertEquals(graph.getNodeCount() - 1, graph.getRunCount(), "A perfect maze contracts to a tree");
+        assertTrue(graph.getNodeCount() < maze.getRows() * maze.getCols() / 2, "Backtracker mazes should be mostly corridors");
+    }
+
+    @RepeatedTest(200)
+    void testHierarchicalSolverMatchesBFSLength() {
+        long seed = new Random().nextLong();
+        Maze maze = loopyMaze(seed, new Random().nextInt(60) + 1, new Random().nextInt(60) + 1);
+
+        Random rand = new Random(seed);
+        maze.setStartCell(rand.nextInt(maze.getRows()), rand.nextInt(maze.getCols()));
+        maze.setEndCell(rand.nextInt(maze.getRows()), rand.nextInt(maze.getCols()));
+
+        int expected = new BFS(maze).solve().size();
+        int[] actual = new HierarchicalSolver(maze).solveIndices();
+
+        if (actual.length != expected) {
+            TestLogger.logFailure(String.format("HPA* Length Mismatch | Seed: %d | %dx%d | BFS: %d | HPA*: %d",
+                    seed, maze.getRows(), maze.getCols(), expected, actual.length));
+        }
+
+        assertEquals(expected, actual.length, "HPA* is not optimal. Seed: " + seed);
+        assertValidIndexPath(maze, actual);
+    }
+
+    @Test
+    void testTilePortalGraphRebuildsOnlyTouchedTiles() {
+        Maze maze = new Maze(21L, 64, 64, Maze.Storage.PACKED);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER,
+                MazeGenerator.Placement.DIAMETER).generateMaze();
+        HierarchicalSolver solver = new HierarchicalSolver(maze);
+        TilePortalGraph graph = TilePortalGraph.forMaze(maze);
+        solver.solveIndices();
+        long builds = graph.getTileBuilds();
+        assertEquals(graph.getTileCount(), builds, "Every tile is built once up front");
+
+        // One wall inside a tile, then one on the border between two tiles
+        int inside = 0;
+        while (!maze.hasWall(inside, 5, Direction.RIGHT)) inside++;
+        maze.removeWall(inside, 5, Direction.RIGHT);
+        int border = 0;
+        while (!maze.hasWall(border, 15, Direction.RIGHT)) border++;
+        maze.removeWall(border, 15, Direction.RIGHT);
+
+        assertSame(graph, TilePortalGraph.forMaze(maze), "Portal graph should survive wall changes");
+        int[] actual = solver.solveIndices();
+        long rebuilt = graph.getTileBuilds() - builds;
+        assertTrue(rebuilt >= 1 && rebuilt <= 3, "Expected only touched tiles to be rebuilt, got " + rebuilt);
+        assertEquals(new BFS(maze).solve().size(), actual.length, "HPA* is not optimal after wall changes");
+    }
+
+    @RepeatedTest(100)
+    void testLPAStarTracksWallEdits() {
+        long seed = new Random().nextLong();
+        Maze maze = loopyMaze(seed, new Random().nextInt(30) + 2, new Random().nextInt(30) + 2);
+        LPAStar solver = new LPAStar(maze);
+        Random rand = new Random(seed);
+
+        for (int edit = 0; edit <= 20; edit++) {
+            if (edit > 0) {
+                // Toggle one interior wall
+                int r = rand.nextInt(maze.getRows());
+                int c = rand.nextInt(maze.getCols());
+                Direction dir = Direction.values()[rand.nextInt(4)];
+                if (!maze.isInMaze(r + dir.getRowOffset(), c + dir.getColOffset())) continue;
+                // Odd edits go through the Cell API, which must update both sides and notify too
+                Cell cell = maze.getCell(r, c);
+                if (maze.hasWall(r, c, dir)) {
+                    if (edit % 2 == 1) cell.removeWall(dir); else maze.removeWall(r, c, dir);
+                } else {
+                    if (edit % 2 == 1) cell.addWall(dir); else maze.addWall(r, c, dir);
+                }
+                Cell neighbor = maze.getCell(r + dir.getRowOffset(), c + dir.getColOffset());
+                assertEquals(cell.hasWall(dir), neighbor.hasWall(dir.getOpposite()), "Edit changed only one side. Seed: " + seed);
+            }
+
+            int expected = new BFS(maze).solve().size();
+            List<Cell> actual = solver.solve();
+
+            if (actual.size() != expected) {
+                TestLogger.logFailure(String.format("LPA* Length Mismatch | Seed: %d | %dx%d | Edit: %d | BFS: %d | LPA*: %d",
+                        seed, maze.getRows(), maze.getCols(), edit, expected, actual.size()));
+            }
+
+            assertEquals(expected, actual.size(), "LPA* is not optimal after edit " + edit + ". Seed: " + seed);
+            if (!actual.isEmpty()) {
+                assertValidIndexPath(maze, toIndices(maze, actual));
+            }
+        }
+        solver.detach();
+    }
+
+    @Test
+    void testLPAStarRepairsLocally() {
+        Maze maze = loopyMaze(31L, 200, 200);
+        maze.setStartCell(0, 0);
+        maze.setEndCell(199, 199);
+        LPAStar solver = new LPAStar(maze);
+        solver.solve();
+        int initial = solver.getExpandedCount();
+
+        // A wall far away from the path's cells only needs a handful of updates
+        List<Cell> path = solver.solve();
+        int r = 199;
+        int c = 0;
+        assertFalse(path.contains(maze.getCell(r, c)));
+        if (maze.hasWall(r, c, Direction.UP)) maze.removeWall(r, c, Direction.UP);
+        else maze.addWall(r, c, Direction.UP);
+
+        assertEquals(new BFS(maze).solve().size(), solver.solve().size(), "LPA* is not optimal after a remote edit");
+        assertTrue(solver.getExpandedCount() < initial / 10,
+                "Remote edit expanded " + solver.getExpandedCount() + " cells, full search expanded " + initial);
+        solver.detach();
+    }
+
+    @RepeatedTest(200)
+    void testDialSolverMatchesDijkstra() {
+        long seed = new Random().nextLong();
+        Maze maze = new Maze(seed, new Random().nextInt(40) + 1, new Random().nextInt(40) + 1);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER).generateMaze();
+        new Braider(maze).braid(0.5);
+        new TerrainGenerator(maze).generate(new Random(seed).nextInt(Maze.MAX_COST) + 1);
+
+        long expected = referenceDijkstra(maze);
+        DialSolver solver = new DialSolver(maze);
+        List<Cell> path = solver.solve();
+
+        long pathCost = 0;
+        for (int i = 1; i < path.size(); i++) {
+            pathCost += maze.getCost(path.get(i).getRow(), path.get(i).getCol());
+        }
+
+        if (solver.getPathCost() != expected) {
+            TestLogger.logFailure(String.format("Dial Cost Mismatch | Seed: %d | %dx%d | Dijkstra: %d | Dial: %d",
+                    seed, maze.getRows(), maze.getCols(), expected, solver.getPathCost()));
+        }
+
+        assertEquals(expected, solver.getPathCost(), "Dial solver is not cheapest. Seed: " + seed);
+        assertEquals(expected, pathCost, "Reported cost does not match the path. Seed: " + seed);
+        assertValidIndexPath(maze, toIndices(maze, path));
+    }
+
+    @Test
+    void testDialSolverOnUnweightedMazeMatchesBFS() {
+        Maze maze = loopyMaze(41L, 60, 60);
+        assertEquals(new BFS(maze).solve().size(), new DialSolver(maze).solve().size(),
+                "Dial should match BFS when every cell costs 1");
+    }
+
+    @Test
+    void testDialSolverCostPastIntRange() {
+        // A serpentine through 9M cells at MAX_COST each costs more than 2^31
+        int size = 3000;
+        Maze maze = new Maze(47L, size, size, Maze.Storage.PACKED);
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (c + 1 < size) maze.removeWall(r, c, Direction.RIGHT);
+                maze.setCost(r, c, Maze.MAX_COST);
+            }
+            if (r + 1 < size) maze.removeWall(r, r % 2 == 0 ? size - 1 : 0, Direction.DOWN);
+        }
+        maze.setStartCell(0, 0);
+        maze.setEndCell(size - 1, (size - 1) % 2 == 0 ? size - 1 : 0);
+
+        DialSolver solver = new DialSolver(maze);
+        List<Cell> path = solver.solve();
+
+        long expected = (long) Maze.MAX_COST * ((long) size * size - 1);
+        assertTrue(expected > Integer.MAX_VALUE);
+        assertEquals((long) size * size, path.size(), "Serpentine path should cover every cell");
+        assertEquals(expected, solver.getPathCost(), "Path cost overflowed");
+    }
+
+    @RepeatedTest(200)
+    void testDeadEndFillerMatchesBFSPath() {
+        long seed = new Random().nextLong();
+        Maze maze = new Maze(seed, new Random().nextInt(80) + 1, new Random().nextInt(40) + 1);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER).generateMaze();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Cell> expected = new BFS(maze).solve();
+            DeadEndFiller filler = new DeadEndFiller(maze, pool);
+            List<Cell> actual = filler.solve();
+
+            // In a perfect maze everything off the start-to-end corridor is a chain of dead ends
+            int filled = filler.getPruneOrder().length;
+            int cells = maze.getRows() * maze.getCols();
+            if (!expected.equals(actual) || filled != cells - expected.size()) {
+                TestLogger.logFailure(String.format("Dead-End Filler Mismatch | Seed: %d | %dx%d | BFS: %d | Filler: %d | Filled: %d",
+                        seed, maze.getRows(), maze.getCols(), expected.size(), actual.size(), filled));
+            }
+
+            assertEquals(expected, actual, "Dead-end filling left the wrong corridor. Seed: " + seed);
+            assertEquals(cells - expected.size(), filled, "Not every dead end was filled. Seed: " + seed);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testDeadEndFillerOnLargeMazeAcrossPools() {
+        Maze maze = new Maze(13L, 600, 600, Maze.Storage.PACKED);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER,
+                MazeGenerator.Placement.DIAMETER).generateMaze();
+        List<Cell> expected = new BFS(maze).solve();
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(8);
+        try {
+            DeadEndFiller serial = new DeadEndFiller(maze, single);
+            DeadEndFiller parallel = new DeadEndFiller(maze, many);
+            assertEquals(expected, serial.solve(), "Single-threaded fill left the wrong corridor");
+            assertEquals(expected, parallel.solve(), "Banded fill left the wrong corridor");
+
+            int[] order = parallel.getPruneOrder();
+            int[] sorted = order.clone();
+            Arrays.sort(sorted);
+            for (int i = 1; i < sorted.length; i++) {
+                assertNotEquals(sorted[i - 1], sorted[i], "A cell was filled twice");
+            }
+            assertEquals(order.length, parallel.getVisitedOrder().size());
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    void testDeadEndFillerKeepsLoops() {
+        Maze maze = loopyMaze(43L, 50, 50);
+        List<Cell> path = new DeadEndFiller(maze).solve();
+        assertEquals(new BFS(maze).solve().size(), path.size(), "Filler should return a shortest path on a braided maze");
+        assertValidIndexPath(maze, toIndices(maze, path));
+    }
+
+    /*
+     * Textbook Dijkstra with java.util.PriorityQueue, used as the reference for weighted solvers.
+     */
+    static long referenceDijkstra(Maze maze) {
+        int cols = maze.getCols();
+        long[] distance = new long[maze.getRows() * cols];
+        Arrays.fill(distance, Long.MAX_VALUE);
+        int start = maze.indexOf(maze.getStartCell().getRow(), maze.getStartCell().getCol());
+        int goal = maze.indexOf(maze.getEndCell().getRow(), maze.getEndCell().getCol());
+        java.util.PriorityQueue<long[]> queue = new java.util.PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        distance[start] = 0;
+        queue.add(new long[]{0, start});
+
+        while (!queue.isEmpty()) {
+            long[] top = queue.poll();
+            int current = (int) top[1];
+            if (top[0] > distance[current]) continue;
+            int row = current / cols;
+            int col = current % cols;
+            for (Direction dir : Direction.values()) {
+                int nr = row + dir.getRowOffset();
+                int nc = col + dir.getColOffset();
+                if (!maze.isInMaze(nr, nc) || maze.hasWall(row, col, dir)) continue;
+                long candidate = top[0] + maze.getCost(nr, nc);
+                if (candidate < distance[nr * cols + nc]) {
+                    distance[nr * cols + nc] = candidate;
+                    queue.add(new long[]{candidate, nr * cols + nc});
+                }
+            }
+        }
+        return distance[goal] == Long.MAX_VALUE ? -1 : distance[goal];
+    }
+
+    @Test
+    void testPrimitiveAStarOnSingleCell() {
+        Maze maze = new Maze(1L, 1, 1);
+        new MazeGenerator(maze).generateMaze();
+
+        assertArrayEquals(new int[]{0}, new AStar(maze).solveIndices(), "1x1 maze should be its own path");
+    }
+
+    /*
+     * Perfect maze with a few extra walls knocked out, so solvers have to deal with loops.
+     */
+    static Maze loopyMaze(long seed, int rows, int cols) {
+        Maze maze = new Maze(seed, rows, cols);
+        new MazeGenerator(maze, MazeGenerator.Algorithm.ITERATIVE_BACKTRACKER).generateMaze();
+
+        Random rand = new Random(seed);
+        for (int i = 0; i < rows * cols / 10; i++) {
+            int r = rand.nextInt(rows);
+            int c = rand.nextInt(cols);
+            Direction dir = Direction.values()[rand.nextInt(4)];
+            if (maze.isInMaze(r + dir.getRowOffset(), c + dir.getColOffset())) {
+                maze.removeWall(r, c, dir);
+            }
+        }
+        return maze;
+    }
+
+    static int[] toIndices(Maze maze, List<Cell> path) {
+        return path.stream().mapToInt(cell -> maze.indexOf(cell.getRow(), cell.getCol())).toArray();
+    }
+
+    static void assertValidIndexPath(Maze maze, int[] path) {
+        Cell start = maze.getStartCell();
+        Cell end = maze.getEndCell();
+        assertEquals(maze.indexOf(start.getRow(), start.getCol()), path[0], "Path does not begin at start");
+        assertEquals(maze.indexOf(end.getRow(), end.getCol()), path[path.length - 1], "Path does not finish at end");
+
+        for (int i = 1; i < path.length; i++) {
+            int row = path[i - 1] / maze.getCols();
+            int col = path[i - 1] % maze.getCols();
+            boolean connected = false;
+            for (Direction dir : Direction.values()) {
+                int next = maze.indexOf(row + dir.getRowOffset(), col + dir.getColOffset());
+                if (maze.isInMaze(row + dir.getRowOffset(), col + dir.getColOffset())
+                        && !maze.hasWall(row, col, dir) && next == path[i]) {
+                    connected = true;
+                }
+            }
+            assertTrue(connected, "Path steps through a wall at index " + i);
+        }
+    }
+}